@@ -27,9 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * YamlLines default implementation. "All" refers to the fact that
@@ -46,22 +44,52 @@ import java.util.List;
 final class AllYamlLines implements YamlLines {
 
     /**
-     * Yaml lines.
+     * Table of the lines which this object is a view of.
      */
-    private Collection<YamlLine> lines;
+    private final LineTable table;
+
+    /**
+     * Position of the first line in the table (inclusive).
+     */
+    private final int start;
+
+    /**
+     * Position of the last line in the table (exclusive).
+     */
+    private final int stop;
 
     /**
      * Ctor.
      * @param lines Yaml lines collection.
      */
     AllYamlLines(final Collection<YamlLine> lines) {
-        this.lines = lines;
+        this(new LineTable(lines));
+    }
+
+    /**
+     * Ctor.
+     * @param table Table with all the lines.
+     */
+    AllYamlLines(final LineTable table) {
+        this(table, 0, table.size());
+    }
+
+    /**
+     * Ctor.
+     * @param table Table of lines.
+     * @param start Position of the first line (inclusive).
+     * @param stop Position of the last line (exclusive).
+     */
+    AllYamlLines(final LineTable table, final int start, final int stop) {
+        this.table = table;
+        this.start = start;
+        this.stop = stop;
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        for (final YamlLine line : this.lines) {
+        for (final YamlLine line : this.lines()) {
             builder.append(line.toString()).append(System.lineSeparator());
         }
         return builder.toString();
@@ -69,32 +97,149 @@ final class AllYamlLines implements YamlLines {
 
     @Override
     public Collection<YamlLine> lines() {
-        return this.lines;
+        return this.table.lines(this.start, this.stop);
     }
 
     /**
      * Lines which are nested after the given YamlLine (lines which are
-     * <br> indented by 2 or more spaces beneath it).
+     * <br> indented by 2 or more spaces beneath it).<br><br>
+     * The returned lines are a view over the same table of lines, whose
+     * boundaries have been computed when the table was created.
      * @param after Number of a YamlLine
      * @return YamlLines
      */
     @Override
     public AllYamlLines nested(final int after) {
-        final List<YamlLine> nestedLines = new ArrayList<YamlLine>();
-        YamlLine start = null;
-        for(final YamlLine line : this.lines()) {
-            if(line.number() == after) {
-                start = line;
+        final AllYamlLines nested;
+        final int position = this.table.position(after, this.start, this.stop);
+        if(position == -1) {
+            nested = new AllYamlLines(this.table, this.stop, this.stop);
+        } else {
+            nested = new AllYamlLines(
+                this.table,
+                position + 1,
+                Math.min(this.table.end(position), this.stop)
+            );
+        }
+        return nested;
+    }
+
+    /**
+     * Position of the line holding the given key, among the top-level
+     * lines (the ones at the same indentation level as the first).
+     * The nested lines are skipped, using the boundaries computed by the
+     * table, so they are not even looked at. Complex keys are not
+     * considered. The keys are read as in {@link ReadYamlMapping}: if a
+     * key appears more than once, the last occurrence wins.
+     * @param key Key of a mapping.
+     * @return Position in the table or -1 if the key is not found.
+     */
+    int keyPosition(final String key) {
+        int found = -1;
+        int position = this.start;
+        while (position < this.stop) {
+            final LineKind kind = this.table.line(position).kind();
+            if(AllYamlLines.mayBeKey(kind) && key.equals(
+                ReadYamlMapping.plainKey(this.table.line(position).trimmed())
+            )) {
+                found = position;
             }
-            if(line.number() > after) {
-                if(line.indentation() > start.indentation()) {
-                    nestedLines.add(line);
-                } else {
-                    break;
+            position = this.nextTop(position, kind);
+        }
+        return found;
+    }
+
+    /**
+     * Position of the top-level line (the lines at the same indentation
+     * level as the first) with the given index. The nested lines are
+     * skipped, using the boundaries computed by the table.
+     * @param index Index of the line (e.g. of a sequence's element).
+     * @return Position in the table or -1 if there are not enough lines.
+     */
+    int topPosition(final int index) {
+        int found = -1;
+        int count = 0;
+        int position = this.start;
+        while (found < 0 && position < this.stop) {
+            final LineKind kind = this.table.line(position).kind();
+            if(!kind.ignored()) {
+                if(count == index) {
+                    found = position;
                 }
+                count++;
             }
+            position = this.nextTop(position, kind);
+        }
+        return found;
+    }
+
+    /**
+     * The line at the given position in the table.
+     * @param position Position, as returned by {@link #keyPosition(String)}
+     *  or {@link #topPosition(int)}.
+     * @return YamlLine.
+     */
+    YamlLine lineAt(final int position) {
+        return this.table.line(position);
+    }
+
+    /**
+     * Lines nested under the line at the given position in the table.
+     * @param position Position, as returned by {@link #keyPosition(String)}
+     *  or {@link #topPosition(int)}.
+     * @return AllYamlLines.
+     */
+    AllYamlLines nestedAt(final int position) {
+        return new AllYamlLines(
+            this.table,
+            position + 1,
+            Math.min(this.table.end(position), this.stop)
+        );
+    }
+
+    /**
+     * Get the YamlLine with the given number. It is looked up in the
+     * table of lines, without iterating.
+     * @param number Number of the line.
+     * @return YamlLine or throws {@link IllegalArgumentException}.
+     */
+    @Override
+    public YamlLine line(final int number) {
+        final int position = this.table.position(number, this.start, this.stop);
+        if(position == -1) {
+            throw new IllegalArgumentException(
+                "Couldn't find line " + number
+              + ". Pay attention, there are "
+              + (this.stop - this.start) + " lines!"
+            );
         }
-        return new AllYamlLines(nestedLines);
+        return this.table.line(position);
+    }
+
+    /**
+     * Verify that these lines are well indented (see {@link WellIndented}),
+     * ignoring the YAML directives and markers. The verification is done
+     * only once per table of lines: if these lines are part of some lines
+     * which have already been verified (e.g. they are nested in an already
+     * read YAML node), nothing is done.
+     * @return These lines.
+     * @throws IllegalStateException If the lines are not well indented.
+     */
+    AllYamlLines wellIndented() {
+        if(!this.table.wellIndented(this.start, this.stop)) {
+            new WellIndented(new NoDirectivesOrMarkers(this)).iterator();
+            this.table.markWellIndented(this.start, this.stop);
+        }
+        return this;
+    }
+
+    /**
+     * The YAML documents of these lines, which start with Start Markers
+     * (---). Each document is read only when the Spliterator reaches it.
+     * @return DocumentSpliterator.
+     */
+    DocumentSpliterator documents() {
+        return new DocumentSpliterator(this.table, this.start, this.stop);
     }
 
     @Override
@@ -105,7 +250,7 @@ final class AllYamlLines implements YamlLines {
         switch (last) {
             case Nested.YAML:
                 final boolean sequence = this.iterator()
-                    .next().trimmed().startsWith("-");
+                    .next().kind() == LineKind.SEQUENCE_ITEM;
                 if(sequence) {
                     node = new ReadYamlSequence(this);
                 } else {
@@ -114,7 +259,7 @@ final class AllYamlLines implements YamlLines {
                 break;
             case Nested.KEY_YAML:
                 final boolean sequenceKey = this.iterator()
-                    .next().trimmed().startsWith("-");
+                    .next().kind() == LineKind.SEQUENCE_ITEM;
                 if(sequenceKey) {
                     node = new ReadYamlSequence(this);
                 } else {
@@ -122,9 +267,9 @@ final class AllYamlLines implements YamlLines {
                 }
                 break;
             case Nested.SEQUENCE:
-                if(trimmed.length() == 1 || "---".equals(trimmed)) {
+                if((prev.flags() & (LineKind.BARE | LineKind.START)) != 0) {
                     final boolean elementSequence = this.iterator()
-                        .next().trimmed().startsWith("-");
+                        .next().kind() == LineKind.SEQUENCE_ITEM;
                     if(elementSequence) {
                         node = new ReadYamlSequence(this);
                     } else {
@@ -147,4 +292,29 @@ final class AllYamlLines implements YamlLines {
         return node;
     }
 
+    /**
+     * Position of the top-level line after the given one.
+     * @param position Position of a top-level line.
+     * @param kind Kind of that line.
+     * @return Position in the table.
+     */
+    private int nextTop(final int position, final LineKind kind) {
+        final int next;
+        if(kind.ignored()) {
+            next = position + 1;
+        } else {
+            next = this.table.end(position);
+        }
+        return next;
+    }
+
+    /**
+     * Can a line of the given kind hold a plain key? Directives, markers
+     * and the lines without ':' can not.
+     * @param kind Kind of the line.
+     * @return True or false.
+     */
+    private static boolean mayBeKey(final LineKind kind) {
+        return !kind.ignored() && kind != LineKind.TEXT;
+    }
 }
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * A number written in an {@link InputBuffer}, between two positions.
+ * It is parsed directly from the buffer, without creating a String.
+ * The ints and longs are parsed like {@link Integer#parseInt(String)} and
+ * {@link Long#parseLong(String)}. The doubles written as decimals with at
+ * most 15 digits and a small exponent (the most common ones) are parsed
+ * exactly, with a single multiplication or division. For any other text
+ * (e.g. invalid numbers, "Infinity" or doubles with more digits) the text
+ * is decoded and given to the parsers of the JDK, so the result and the
+ * exceptions are the same.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class BufferNumber {
+
+    /**
+     * Powers of 10 which are exactly represented as doubles.
+     */
+    private static final double[] POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    /**
+     * Maximum number of digits of a double's mantissa, so it is exactly
+     * represented as a double.
+     */
+    private static final int MAX_DIGITS = 15;
+
+    /**
+     * Buffer.
+     */
+    private final InputBuffer buffer;
+
+    /**
+     * Position where the number starts.
+     */
+    private final int start;
+
+    /**
+     * Position where the number ends (exclusive).
+     */
+    private final int end;
+
+    /**
+     * Ctor.
+     * @param buffer Buffer.
+     * @param start Position where the number starts.
+     * @param end Position where the number ends (exclusive).
+     */
+    BufferNumber(final InputBuffer buffer, final int start, final int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parse the number as the given type.
+     * @param type Integer, Long or Double.
+     * @param <T> Type of the number.
+     * @return The number or null if the type is not supported.
+     * @throws NumberFormatException If the text is not a number.
+     */
+    <T> T parsed(final Class<T> type) {
+        final Object parsed;
+        if(type == Integer.class) {
+            parsed = this.integer();
+        } else if(type == Long.class) {
+            parsed = this.longNumber();
+        } else if(type == Double.class) {
+            parsed = this.doubleNumber();
+        } else {
+            parsed = null;
+        }
+        return type.cast(parsed);
+    }
+
+    /**
+     * Parse the number as an int.
+     * @return Integer.
+     * @throws NumberFormatException If the text is not an int.
+     */
+    int integer() {
+        int value;
+        try {
+            value = (int) this.parse(Integer.MAX_VALUE);
+        } catch (final NumberFormatException ex) {
+            value = Integer.parseInt(this.text());
+        }
+        return value;
+    }
+
+    /**
+     * Parse the number as a long.
+     * @return Long.
+     * @throws NumberFormatException If the text is not a long.
+     */
+    long longNumber() {
+        long value;
+        try {
+            value = this.parse(Long.MAX_VALUE);
+        } catch (final NumberFormatException ex) {
+            value = Long.parseLong(this.text());
+        }
+        return value;
+    }
+
+    /**
+     * Parse the number as a double.
+     * @return Double.
+     * @throws NumberFormatException If the text is not a double.
+     */
+    double doubleNumber() {
+        double value;
+        try {
+            value = this.decimal();
+        } catch (final NumberFormatException ex) {
+            value = Double.parseDouble(this.text());
+        }
+        return value;
+    }
+
+    /**
+     * Parse an integer number, which is at most the given limit.
+     * The digits are accumulated as a negative number, so the minimum
+     * value (-limit - 1) can be parsed too.
+     * @param limit Maximum value.
+     * @return Parsed number.
+     * @throws NumberFormatException If the text is not an integer number
+     *  or it is out of range.
+     */
+    private long parse(final long limit) {
+        int idx = this.start;
+        final boolean negative = this.unit(idx) == '-';
+        if(negative || this.unit(idx) == '+') {
+            idx++;
+        }
+        if(idx >= this.end) {
+            throw new NumberFormatException();
+        }
+        long min = -limit;
+        if(negative) {
+            min = min - 1;
+        }
+        long result = 0;
+        for(; idx < this.end; ++idx) {
+            final int digit = this.digit(idx);
+            if(digit < 0 || result < (min + digit) / 10) {
+                throw new NumberFormatException();
+            }
+            result = result * 10 - digit;
+        }
+        if(!negative) {
+            result = -result;
+        }
+        return result;
+    }
+
+    /**
+     * Parse a decimal number, with an optional fraction and exponent.
+     * @return Parsed number.
+     * @throws NumberFormatException If the text is not such a number or
+     *  it cannot be parsed exactly with a single operation.
+     * @checkstyle CyclomaticComplexity (60 lines)
+     * @checkstyle ExecutableStatementCount (60 lines)
+     */
+    private double decimal() {
+        int idx = this.start;
+        final boolean negative = this.unit(idx) == '-';
+        if(negative || this.unit(idx) == '+') {
+            idx++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        final int first = idx;
+        for(; idx < this.end; ++idx) {
+            final int digit = this.digit(idx);
+            if(digit >= 0) {
+                if(mantissa > 0 || digit > 0) {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + digit;
+                if(fraction) {
+                    exponent--;
+                }
+            } else if(this.unit(idx) == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if(idx - first == 0 || fraction && idx - first == 1
+            || digits > MAX_DIGITS) {
+            throw new NumberFormatException();
+        }
+        if(idx < this.end) {
+            exponent = exponent + this.exponent(idx);
+        }
+        double value = BufferNumber.scaled(mantissa, exponent);
+        if(negative) {
+            value = -value;
+        }
+        return value;
+    }
+
+    /**
+     * Scale the given mantissa by a power of 10. Both the mantissa and
+     * the power are exact doubles, so the result is correctly rounded.
+     * @param mantissa Mantissa, of at most 15 digits.
+     * @param exponent Power of 10.
+     * @return Scaled mantissa.
+     * @throws NumberFormatException If the power is out of the table.
+     */
+    private static double scaled(final long mantissa, final int exponent) {
+        final double value;
+        if(exponent >= 0 && exponent < POWERS.length) {
+            value = mantissa * POWERS[exponent];
+        } else if(exponent < 0 && -exponent < POWERS.length) {
+            value = mantissa / POWERS[-exponent];
+        } else {
+            throw new NumberFormatException();
+        }
+        return value;
+    }
+
+    /**
+     * Parse the exponent of a decimal number (e.g. "e-5").
+     * @param position Position of the 'e' or 'E'.
+     * @return Exponent.
+     * @throws NumberFormatException If the text is not an exponent.
+     */
+    private int exponent(final int position) {
+        if(this.unit(position) != 'e' && this.unit(position) != 'E') {
+            throw new NumberFormatException();
+        }
+        int idx = position + 1;
+        final boolean negative = this.unit(idx) == '-';
+        if(negative || this.unit(idx) == '+') {
+            idx++;
+        }
+        if(idx >= this.end || this.end - idx > 3) {
+            throw new NumberFormatException();
+        }
+        int exponent = 0;
+        for(; idx < this.end; ++idx) {
+            final int digit = this.digit(idx);
+            if(digit < 0) {
+                throw new NumberFormatException();
+            }
+            exponent = exponent * 10 + digit;
+        }
+        if(negative) {
+            exponent = -exponent;
+        }
+        return exponent;
+    }
+
+    /**
+     * The digit at the given position.
+     * @param position Position.
+     * @return Digit or -1 if it is not a digit.
+     */
+    private int digit(final int position) {
+        final int digit = this.buffer.unit(position) - '0';
+        int result = -1;
+        if(digit >= 0 && digit <= 9) {
+            result = digit;
+        }
+        return result;
+    }
+
+    /**
+     * The unit at the given position.
+     * @param position Position.
+     * @return Unit or -1 if the position is after the end.
+     */
+    private int unit(final int position) {
+        int unit = -1;
+        if(position < this.end) {
+            unit = this.buffer.unit(position);
+        }
+        return unit;
+    }
+
+    /**
+     * The text of this number.
+     * @return String.
+     */
+    private String text() {
+        return this.buffer.text(this.start, this.end);
+    }
+}
@@ -57,6 +57,16 @@ final class CachedYamlLine implements YamlLine {
      */
     private Boolean hasNestedNode;
 
+    /**
+     * Cached kind.
+     */
+    private LineKind kind;
+
+    /**
+     * Cached flags.
+     */
+    private int flags = -1;
+
     /**
      * Ctor.
      * @param line YamlLine
@@ -99,6 +109,22 @@ final class CachedYamlLine implements YamlLine {
         return this.hasNestedNode;
     }
 
+    @Override
+    public LineKind kind() {
+        if(this.kind == null) {
+            this.kind = this.line.kind();
+        }
+        return this.kind;
+    }
+
+    @Override
+    public int flags() {
+        if(this.flags == -1) {
+            this.flags = this.line.flags();
+        }
+        return this.flags;
+    }
+
     @Override
     public String toString() {
         return this.line.toString();
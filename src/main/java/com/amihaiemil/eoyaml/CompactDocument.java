@@ -0,0 +1,700 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact representation of a read YAML document. Instead of a graph of
+ * objects (lines, decorators and nodes), the document is held in parallel
+ * int arrays, with one entry per node: the node's kind, its parent, its
+ * first child, its next sibling and the offsets of its key and scalar
+ * value in the buffer holding the input. The text is decoded only when it
+ * is requested.<br><br>
+ * The YamlNodes are flyweight views over these arrays
+ * ({@link CompactYamlMapping}, {@link CompactYamlSequence} and
+ * {@link CompactScalar}), created when they are accessed and not kept.
+ * <br><br>
+ * Only block mappings with plain keys, block sequences and scalars on the
+ * same line as their key or dash are supported. Complex keys are not
+ * supported and the lines must be indented exactly as the other lines
+ * at the same level. The buffer is expected to hold UTF-8 bytes.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ * @checkstyle ClassDataAbstractionCoupling (500 lines)
+ */
+final class CompactDocument {
+
+    /**
+     * Kind of the YamlMapping nodes.
+     */
+    static final int MAPPING = 0;
+
+    /**
+     * Kind of the YamlSequence nodes.
+     */
+    static final int SEQUENCE = 1;
+
+    /**
+     * Kind of the Scalar nodes.
+     */
+    static final int SCALAR = 2;
+
+    /**
+     * Buffer holding the input.
+     */
+    private final InputBuffer buffer;
+
+    /**
+     * Kind of each node.
+     */
+    private int[] kinds;
+
+    /**
+     * Parent of each node, -1 for the root.
+     */
+    private int[] parents;
+
+    /**
+     * First child of each node, -1 if it has no children.
+     */
+    private int[] firsts;
+
+    /**
+     * Next sibling of each node, -1 for the last child.
+     */
+    private int[] nexts;
+
+    /**
+     * Position where the key of each node starts, -1 if it has no key.
+     */
+    private int[] keyStarts;
+
+    /**
+     * Position where the key of each node ends (exclusive).
+     */
+    private int[] keyEnds;
+
+    /**
+     * Position where the scalar value of each node starts, -1 if it has
+     * no scalar value.
+     */
+    private int[] valueStarts;
+
+    /**
+     * Position where the scalar value of each node ends (exclusive).
+     */
+    private int[] valueEnds;
+
+    /**
+     * Number of nodes.
+     */
+    private int size;
+
+    /**
+     * Index of the nodes which have a key, by their parent and key, built
+     * once the document is read (see {@link #child(int, String)}). It is
+     * a hash table with open addressing, holding the nodes plus 1, so
+     * empty slots are 0.
+     */
+    private int[] index;
+
+    /**
+     * Open nodes, while reading: the root and the nodes nested in it,
+     * up to the node of the current line.
+     */
+    private int[] open;
+
+    /**
+     * Indentation of the children of each open node, -1 if it is not
+     * known yet.
+     */
+    private int[] indents;
+
+    /**
+     * Last child of each open node, -1 if it has no children yet.
+     */
+    private int[] lasts;
+
+    /**
+     * Index of the deepest open node.
+     */
+    private int depth;
+
+    /**
+     * Node whose value is nested under it, on the following lines, -1 if
+     * there is none.
+     */
+    private int pending;
+
+    /**
+     * Indentation of the line of the pending node.
+     */
+    private int pendingIndent;
+
+    /**
+     * Number of the line of the pending node.
+     */
+    private int pendingLine;
+
+    /**
+     * Ctor. The document is read from the buffer right away.
+     * @param buffer Buffer holding the input.
+     * @param kind Kind of the root node ({@link #MAPPING} or
+     *  {@link #SEQUENCE}).
+     */
+    CompactDocument(final InputBuffer buffer, final int kind) {
+        this.buffer = buffer;
+        this.kinds = new int[64];
+        this.parents = new int[64];
+        this.firsts = new int[64];
+        this.nexts = new int[64];
+        this.keyStarts = new int[64];
+        this.keyEnds = new int[64];
+        this.valueStarts = new int[64];
+        this.valueEnds = new int[64];
+        this.open = new int[8];
+        this.indents = new int[8];
+        this.lasts = new int[8];
+        this.depth = -1;
+        this.pending = -1;
+        this.push(this.add(-1, kind), -1);
+        new LineScanner(buffer).forEach(this::read);
+        this.finish();
+    }
+
+    /**
+     * The root of this document, as a YamlMapping.
+     * @return YamlMapping.
+     */
+    YamlMapping mapping() {
+        return new CompactYamlMapping(this, 0);
+    }
+
+    /**
+     * The root of this document, as a YamlSequence.
+     * @return YamlSequence.
+     */
+    YamlSequence sequence() {
+        return new CompactYamlSequence(this, 0);
+    }
+
+    /**
+     * Number of nodes in this document.
+     * @return Integer.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Kind of the given node.
+     * @param node Node.
+     * @return Kind: {@link #MAPPING}, {@link #SEQUENCE} or {@link #SCALAR}.
+     */
+    int kind(final int node) {
+        return this.kinds[node];
+    }
+
+    /**
+     * Parent of the given node.
+     * @param node Node.
+     * @return Parent node or -1 for the root.
+     */
+    int parent(final int node) {
+        return this.parents[node];
+    }
+
+    /**
+     * First child of the given node.
+     * @param node Node.
+     * @return Child node or -1 if there are no children.
+     */
+    int first(final int node) {
+        return this.firsts[node];
+    }
+
+    /**
+     * Next sibling of the given node.
+     * @param node Node.
+     * @return Sibling node or -1 if it is the last child.
+     */
+    int next(final int node) {
+        return this.nexts[node];
+    }
+
+    /**
+     * Key of the given node, if it is the value of a mapping's key.
+     * @param node Node.
+     * @return Key or null.
+     */
+    String key(final int node) {
+        String key = null;
+        if(this.keyStarts[node] >= 0) {
+            key = this.buffer.text(this.keyStarts[node], this.keyEnds[node]);
+        }
+        return key;
+    }
+
+    /**
+     * Value of the given scalar node.
+     * @param node Node.
+     * @return Value or null if the node has no value.
+     */
+    String value(final int node) {
+        String value = null;
+        if(this.valueStarts[node] >= 0) {
+            value = this.buffer.text(
+                this.valueStarts[node], this.valueEnds[node]
+            );
+        }
+        return value;
+    }
+
+    /**
+     * The scalar value of the given node, as a number in the buffer, so it
+     * can be parsed without creating a String (see {@link BufferNumber}).
+     * @param node Node.
+     * @return BufferNumber or null if the node has no value.
+     */
+    BufferNumber number(final int node) {
+        BufferNumber number = null;
+        if(this.valueStarts[node] >= 0
+            && this.valueStarts[node] < this.valueEnds[node]) {
+            number = new BufferNumber(
+                this.buffer, this.valueStarts[node], this.valueEnds[node]
+            );
+        }
+        return number;
+    }
+
+    /**
+     * The child of the given node which has the given key. The keys are
+     * compared as bytes, without decoding them. If the key appears more
+     * than once, the last occurrence wins. The child is looked up in
+     * the index, so the siblings are not scanned.
+     * @param node Node.
+     * @param key Key.
+     * @return Child node or -1 if there is no such key.
+     */
+    int child(final int node, final String key) {
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = 0;
+        for(final byte unit : bytes) {
+            hash = 31 * hash + (unit & 0xFF);
+        }
+        final int mask = this.index.length - 1;
+        int slot = CompactDocument.slot(node, hash) & mask;
+        int found = -1;
+        while (found < 0 && this.index[slot] != 0) {
+            final int kid = this.index[slot] - 1;
+            if(this.parents[kid] == node && this.sameKey(kid, bytes)) {
+                found = kid;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return found;
+    }
+
+    /**
+     * Flyweight YamlNode view of the given node.
+     * @param node Node.
+     * @return YamlNode.
+     */
+    YamlNode view(final int node) {
+        final YamlNode view;
+        if(this.kinds[node] == MAPPING) {
+            view = new CompactYamlMapping(this, node);
+        } else if(this.kinds[node] == SEQUENCE) {
+            view = new CompactYamlSequence(this, node);
+        } else {
+            view = new CompactScalar(this, node);
+        }
+        return view;
+    }
+
+    /**
+     * Read a line of the document.
+     * @param line Line which is not blank.
+     */
+    private void read(final ReadYamlLine line) {
+        if(!line.kind().ignored()) {
+            this.nest(line);
+            this.close(line);
+            final int parent = this.open[this.depth];
+            if(this.kinds[parent] == SEQUENCE) {
+                this.element(line, parent);
+            } else {
+                this.pair(line, parent);
+            }
+        }
+    }
+
+    /**
+     * Open the pending node, if there is one. The given line must be
+     * nested under it.
+     * @param line Line following the pending node.
+     * @throws IllegalStateException If the line is not nested under the
+     *  pending node.
+     */
+    private void nest(final ReadYamlLine line) {
+        if(this.pending >= 0) {
+            if(line.indentation() <= this.pendingIndent) {
+                this.missingValue();
+            }
+            if(this.buffer.unit(line.trimStart()) == '-') {
+                this.kinds[this.pending] = SEQUENCE;
+            } else {
+                this.kinds[this.pending] = MAPPING;
+            }
+            this.push(this.pending, line.indentation());
+            this.pending = -1;
+        }
+    }
+
+    /**
+     * The pending node has nothing nested under it.
+     * @throws IllegalStateException Always, since empty values are not
+     *  supported.
+     */
+    private void missingValue() {
+        throw new IllegalStateException(
+            "Expected a value nested under line " + (this.pendingLine + 1)
+            + ", on the following lines, indented more than it."
+        );
+    }
+
+    /**
+     * Close the open nodes which are more indented than the given line.
+     * @param line Line.
+     * @throws IllegalStateException If the line is not correctly indented.
+     */
+    private void close(final ReadYamlLine line) {
+        final int indentation = line.indentation();
+        while (this.depth > 0 && indentation < this.indents[this.depth]) {
+            this.depth--;
+        }
+        if(this.indents[this.depth] < 0) {
+            this.indents[this.depth] = indentation;
+        } else if(indentation != this.indents[this.depth]) {
+            throw new IllegalStateException(
+                "Indentation of line " + (line.number() + 1) + " is "
+                + indentation + ". It should be "
+                + this.indents[this.depth] + "."
+            );
+        }
+    }
+
+    /**
+     * Read an element of a sequence ("- value" or "-").
+     * @param line Line of the element.
+     * @param parent The sequence.
+     * @throws IllegalStateException If the line is not an element.
+     */
+    private void element(final ReadYamlLine line, final int parent) {
+        final int start = line.trimStart();
+        if(this.buffer.unit(start) != '-') {
+            throw new IllegalStateException(
+                "Expected a sequence element on line " + (line.number() + 1)
+                + ". Instead, the line is: [" + line.trimmed() + "]."
+            );
+        }
+        this.scalar(
+            this.add(parent, SCALAR), line, this.skipSpaces(start + 1)
+        );
+    }
+
+    /**
+     * Read a pair of a mapping ("key: value" or "key:").
+     * @param line Line of the pair.
+     * @param parent The mapping.
+     * @throws IllegalStateException If the line is not a pair with a plain
+     *  key.
+     */
+    private void pair(final ReadYamlLine line, final int parent) {
+        final int start = line.trimStart();
+        final int end = line.trimEnd();
+        int colon = start;
+        while (colon < end && this.buffer.unit(colon) != ':') {
+            colon++;
+        }
+        if(colon == start || colon == end
+            || this.buffer.unit(start) == '?'
+            || this.buffer.unit(start) == '-') {
+            throw new IllegalStateException(
+                "Expected a plain key on line " + (line.number() + 1)
+                + ". The line should have the format 'key: value' or 'key:'"
+                + " (complex keys are not supported by the compact "
+                + "representation). Instead, the line is: ["
+                + line.trimmed() + "]."
+            );
+        }
+        int keyEnd = colon;
+        while (this.buffer.unit(keyEnd - 1) <= ' ') {
+            keyEnd--;
+        }
+        final int node = this.add(parent, SCALAR);
+        this.keyStarts[node] = start;
+        this.keyEnds[node] = keyEnd;
+        this.scalar(node, line, this.skipSpaces(colon + 1));
+    }
+
+    /**
+     * Set the scalar value of the given node, if there is one on its line.
+     * Otherwise, the value is expected on the following lines. The quotes
+     * of the value are not kept.
+     * @param node Node.
+     * @param line Line of the node.
+     * @param start Position where the value starts.
+     * @throws IllegalStateException If the value is a block scalar.
+     */
+    private void scalar(final int node, final ReadYamlLine line,
+        final int start) {
+        final int end = line.trimEnd();
+        if(start >= end) {
+            this.pending = node;
+            this.pendingIndent = line.indentation();
+            this.pendingLine = line.number();
+        } else if(this.isBlockHeader(start, end)) {
+            throw new IllegalStateException(
+                "Block scalars (| or >) are not supported by the compact "
+                + "representation. Found one on line " + (line.number() + 1)
+                + ": [" + line.trimmed() + "]."
+            );
+        } else if(end - start > 2 && this.isQuoted(start, end)) {
+            this.valueStarts[node] = start + 1;
+            this.valueEnds[node] = end - 1;
+        } else {
+            this.valueStarts[node] = start;
+            this.valueEnds[node] = end;
+        }
+    }
+
+    /**
+     * Add a node, as the last child of the given parent, which is
+     * the deepest open node.
+     * @param parent Parent node, -1 for the root.
+     * @param kind Kind of the node.
+     * @return The added node.
+     */
+    private int add(final int parent, final int kind) {
+        if(this.size == this.kinds.length) {
+            this.resize(this.size * 2);
+        }
+        final int node = this.size;
+        this.size++;
+        this.kinds[node] = kind;
+        this.parents[node] = parent;
+        this.firsts[node] = -1;
+        this.nexts[node] = -1;
+        this.keyStarts[node] = -1;
+        this.valueStarts[node] = -1;
+        if(parent >= 0) {
+            final int last = this.lasts[this.depth];
+            if(last < 0) {
+                this.firsts[parent] = node;
+            } else {
+                this.nexts[last] = node;
+            }
+            this.lasts[this.depth] = node;
+        }
+        return node;
+    }
+
+    /**
+     * Open the given node.
+     * @param node Node.
+     * @param indentation Indentation of its children, -1 if not known.
+     */
+    private void push(final int node, final int indentation) {
+        this.depth++;
+        if(this.depth == this.open.length) {
+            this.open = Arrays.copyOf(this.open, this.depth * 2);
+            this.indents = Arrays.copyOf(this.indents, this.depth * 2);
+            this.lasts = Arrays.copyOf(this.lasts, this.depth * 2);
+        }
+        this.open[this.depth] = node;
+        this.indents[this.depth] = indentation;
+        this.lasts[this.depth] = -1;
+    }
+
+    /**
+     * Finish reading: trim the arrays to the number of nodes, index the
+     * nodes by their keys and discard the state of the reading.
+     */
+    private void finish() {
+        if(this.pending >= 0) {
+            this.missingValue();
+        }
+        this.resize(this.size);
+        this.open = null;
+        this.indents = null;
+        this.lasts = null;
+        int keyed = 0;
+        for(int node = 0; node < this.size; ++node) {
+            if(this.keyStarts[node] >= 0) {
+                keyed++;
+            }
+        }
+        this.index = new int[Integer.highestOneBit(keyed * 2 + 1) * 2];
+        for(int node = 0; node < this.size; ++node) {
+            if(this.keyStarts[node] >= 0) {
+                this.indexKey(node);
+            }
+        }
+    }
+
+    /**
+     * Put the given node in the index. If one of its siblings, read
+     * before it, has the same key, it is replaced, so the last occurrence
+     * of a key wins.
+     * @param node Node which has a key.
+     */
+    private void indexKey(final int node) {
+        int hash = 0;
+        for(int pos = this.keyStarts[node]; pos < this.keyEnds[node]; ++pos) {
+            hash = 31 * hash + this.buffer.unit(pos);
+        }
+        final int mask = this.index.length - 1;
+        int slot = CompactDocument.slot(this.parents[node], hash) & mask;
+        while (this.index[slot] != 0
+            && !this.sameKeys(this.index[slot] - 1, node)) {
+            slot = (slot + 1) & mask;
+        }
+        this.index[slot] = node + 1;
+    }
+
+    /**
+     * Do the given nodes have the same parent and the same key?
+     * @param first First node.
+     * @param second Second node.
+     * @return True or false.
+     */
+    private boolean sameKeys(final int first, final int second) {
+        final int length = this.keyEnds[first] - this.keyStarts[first];
+        boolean same = this.parents[first] == this.parents[second]
+            && this.keyEnds[second] - this.keyStarts[second] == length;
+        final int start = this.keyStarts[first];
+        final int other = this.keyStarts[second];
+        for(int idx = 0; same && idx < length; ++idx) {
+            final int unit = this.buffer.unit(start + idx);
+            same = unit == this.buffer.unit(other + idx);
+        }
+        return same;
+    }
+
+    /**
+     * Slot of a key in the index, before it is masked to the index's
+     * length.
+     * @param parent Parent of the node which has the key.
+     * @param hash Hash of the key's bytes.
+     * @return Integer.
+     */
+    private static int slot(final int parent, final int hash) {
+        final int mixed = (parent * 0x9E3779B9) ^ hash;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Resize the arrays of the nodes.
+     * @param length New length.
+     */
+    private void resize(final int length) {
+        this.kinds = Arrays.copyOf(this.kinds, length);
+        this.parents = Arrays.copyOf(this.parents, length);
+        this.firsts = Arrays.copyOf(this.firsts, length);
+        this.nexts = Arrays.copyOf(this.nexts, length);
+        this.keyStarts = Arrays.copyOf(this.keyStarts, length);
+        this.keyEnds = Arrays.copyOf(this.keyEnds, length);
+        this.valueStarts = Arrays.copyOf(this.valueStarts, length);
+        this.valueEnds = Arrays.copyOf(this.valueEnds, length);
+    }
+
+    /**
+     * Does the key of the given node have the given bytes?
+     * @param node Node.
+     * @param key Bytes of the key.
+     * @return True or false.
+     */
+    private boolean sameKey(final int node, final byte[] key) {
+        final int start = this.keyStarts[node];
+        boolean same = start >= 0
+            && this.keyEnds[node] - start == key.length;
+        for(int idx = 0; same && idx < key.length; ++idx) {
+            same = this.buffer.unit(start + idx) == (key[idx] & 0xFF);
+        }
+        return same;
+    }
+
+    /**
+     * Position of the first character after the given one which is
+     * not a space.
+     * @param position Position.
+     * @return Position.
+     */
+    private int skipSpaces(final int position) {
+        int idx = position;
+        while (idx < this.buffer.length() && this.buffer.unit(idx) == ' ') {
+            idx++;
+        }
+        return idx;
+    }
+
+    /**
+     * Is the text between the given positions the header of a block
+     * scalar: '|' or '>', followed only by chomping or indentation
+     * indicators?
+     * @param start Start position.
+     * @param end End position (exclusive).
+     * @return True or false.
+     */
+    private boolean isBlockHeader(final int start, final int end) {
+        final int first = this.buffer.unit(start);
+        boolean header = (first == '|' || first == '>') && end - start <= 3;
+        for(int idx = start + 1; header && idx < end; ++idx) {
+            final int indicator = this.buffer.unit(idx);
+            header = indicator == '-' || indicator == '+'
+                || indicator >= '1' && indicator <= '9';
+        }
+        return header;
+    }
+
+    /**
+     * Is the text between the given positions quoted?
+     * @param start Start position.
+     * @param end End position (exclusive).
+     * @return True or false.
+     */
+    private boolean isQuoted(final int start, final int end) {
+        final int first = this.buffer.unit(start);
+        return (first == '"' || first == '\'')
+            && this.buffer.unit(end - 1) == first;
+    }
+}
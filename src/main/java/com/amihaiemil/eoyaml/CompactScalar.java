@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.function.Function;
+
+/**
+ * Scalar which is a flyweight view of a node in a {@link CompactDocument}.
+ * The value is decoded from the document's buffer when it is requested.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class CompactScalar extends ComparableScalar {
+
+    /**
+     * The document.
+     */
+    private final CompactDocument document;
+
+    /**
+     * Index of this scalar's node.
+     */
+    private final int node;
+
+    /**
+     * Ctor.
+     * @param document The document.
+     * @param node Index of this scalar's node.
+     */
+    CompactScalar(final CompactDocument document, final int node) {
+        this.document = document;
+        this.node = node;
+    }
+
+    @Override
+    public String value() {
+        return this.document.value(this.node);
+    }
+
+    /**
+     * The numbers are parsed directly from the document's buffer, without
+     * creating the String (see {@link BufferNumber}).
+     * @param type Type of the parsed value.
+     * @param parser Parser of the value.
+     * @param <T> Type of the parsed value.
+     * @return Parsed value.
+     */
+    @Override
+    <T> T parseValue(final Class<T> type, final Function<String, T> parser) {
+        final BufferNumber number = this.document.number(this.node);
+        T parsed = null;
+        if(number != null) {
+            parsed = number.parsed(type);
+        }
+        if(parsed == null) {
+            parsed = super.parseValue(type, parser);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * YamlMapping which is a flyweight view of a node in a
+ * {@link CompactDocument}. It only holds the document and the node's
+ * index, everything else is looked up in the document when requested.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class CompactYamlMapping extends ComparableYamlMapping {
+
+    /**
+     * The document.
+     */
+    private final CompactDocument document;
+
+    /**
+     * Index of this mapping's node.
+     */
+    private final int node;
+
+    /**
+     * Ctor.
+     * @param document The document.
+     * @param node Index of this mapping's node.
+     */
+    CompactYamlMapping(final CompactDocument document, final int node) {
+        this.document = document;
+        this.node = node;
+    }
+
+    @Override
+    public YamlMapping yamlMapping(final String key) {
+        final YamlNode value = this.valueOf(key);
+        YamlMapping found = null;
+        if(value instanceof YamlMapping) {
+            found = (YamlMapping) value;
+        }
+        return found;
+    }
+
+    @Override
+    public YamlMapping yamlMapping(final YamlNode key) {
+        YamlMapping found = null;
+        if(key instanceof Scalar) {
+            found = this.yamlMapping(((Scalar) key).value());
+        }
+        return found;
+    }
+
+    @Override
+    public YamlSequence yamlSequence(final String key) {
+        final YamlNode value = this.valueOf(key);
+        YamlSequence found = null;
+        if(value instanceof YamlSequence) {
+            found = (YamlSequence) value;
+        }
+        return found;
+    }
+
+    @Override
+    public YamlSequence yamlSequence(final YamlNode key) {
+        YamlSequence found = null;
+        if(key instanceof Scalar) {
+            found = this.yamlSequence(((Scalar) key).value());
+        }
+        return found;
+    }
+
+    @Override
+    public String string(final String key) {
+        final int child = this.document.child(this.node, key);
+        String found = null;
+        if(child >= 0
+            && this.document.kind(child) == CompactDocument.SCALAR) {
+            found = this.document.value(child);
+        }
+        return found;
+    }
+
+    @Override
+    public String string(final YamlNode key) {
+        String found = null;
+        if(key instanceof Scalar) {
+            found = this.string(((Scalar) key).value());
+        }
+        return found;
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        YamlNode found = null;
+        if(key instanceof Scalar) {
+            found = this.valueOf(((Scalar) key).value());
+        }
+        return found;
+    }
+
+    @Override
+    public Set<YamlNode> keys() {
+        final Set<YamlNode> keys = new TreeSet<>();
+        for(int kid = this.document.first(this.node); kid >= 0;
+            kid = this.document.next(kid)) {
+            keys.add(new BuiltPlainScalar(this.document.key(kid)));
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    @Override
+    public Collection<YamlNode> values() {
+        final Map<YamlNode, YamlNode> values = new TreeMap<>();
+        for(int kid = this.document.first(this.node); kid >= 0;
+            kid = this.document.next(kid)) {
+            values.put(
+                new BuiltPlainScalar(this.document.key(kid)),
+                this.document.view(kid)
+            );
+        }
+        return Collections.unmodifiableList(
+            new ArrayList<>(values.values())
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.indent(0);
+    }
+
+    /**
+     * The value of the given key.
+     * @param key Key.
+     * @return YamlNode or null if the key is not found.
+     */
+    private YamlNode valueOf(final String key) {
+        final int child = this.document.child(this.node, key);
+        YamlNode found = null;
+        if(child >= 0) {
+            found = this.document.view(child);
+        }
+        return found;
+    }
+}
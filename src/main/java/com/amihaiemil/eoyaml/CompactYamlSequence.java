@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * YamlSequence which is a flyweight view of a node in a
+ * {@link CompactDocument}. It only holds the document and the node's
+ * index, everything else is looked up in the document when requested.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class CompactYamlSequence extends ComparableYamlSequence {
+
+    /**
+     * The document.
+     */
+    private final CompactDocument document;
+
+    /**
+     * Index of this sequence's node.
+     */
+    private final int node;
+
+    /**
+     * Ctor.
+     * @param document The document.
+     * @param node Index of this sequence's node.
+     */
+    CompactYamlSequence(final CompactDocument document, final int node) {
+        this.document = document;
+        this.node = node;
+    }
+
+    @Override
+    public Collection<YamlNode> values() {
+        final List<YamlNode> values = new ArrayList<>();
+        for(int kid = this.document.first(this.node); kid >= 0;
+            kid = this.document.next(kid)) {
+            values.add(this.document.view(kid));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public YamlMapping yamlMapping(final int index) {
+        final int element = this.element(index);
+        YamlMapping mapping = null;
+        if(element >= 0
+            && this.document.kind(element) == CompactDocument.MAPPING) {
+            mapping = new CompactYamlMapping(this.document, element);
+        }
+        return mapping;
+    }
+
+    @Override
+    public YamlSequence yamlSequence(final int index) {
+        final int element = this.element(index);
+        YamlSequence sequence = null;
+        if(element >= 0
+            && this.document.kind(element) == CompactDocument.SEQUENCE) {
+            sequence = new CompactYamlSequence(this.document, element);
+        }
+        return sequence;
+    }
+
+    @Override
+    public String string(final int index) {
+        final int element = this.element(index);
+        String scalar = null;
+        if(element >= 0
+            && this.document.kind(element) == CompactDocument.SCALAR) {
+            scalar = this.document.value(element);
+        }
+        return scalar;
+    }
+
+    @Override
+    public YamlNode value(final int index) {
+        final int element = this.element(index);
+        YamlNode found = null;
+        if(element >= 0) {
+            found = this.document.view(element);
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for(int kid = this.document.first(this.node); kid >= 0;
+            kid = this.document.next(kid)) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<YamlNode> iterator() {
+        return this.values().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return this.indent(0);
+    }
+
+    /**
+     * The node of the element with the given index.
+     * @param index Index of the element.
+     * @return Node or -1 if the index is out of bounds.
+     */
+    private int element(final int index) {
+        int kid = -1;
+        if(index >= 0) {
+            kid = this.document.first(this.node);
+            for(int idx = 0; kid >= 0 && idx < index; ++idx) {
+                kid = this.document.next(kid);
+            }
+        }
+        return kid;
+    }
+}
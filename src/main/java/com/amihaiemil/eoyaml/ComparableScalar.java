@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.function.Function;
+
 /**
  * Comparable Yaml Scalar implementing equals, hashcode and compareTo methods.
  * <br><br>
@@ -40,6 +42,12 @@ package com.amihaiemil.eoyaml;
  */
 abstract class ComparableScalar implements Scalar {
 
+    /**
+     * The last value parsed from this scalar (e.g. an Integer),
+     * see {@link #parsed(Class, Function)}.
+     */
+    private Object parsed;
+
     /**
      * Equality of two objects.
      * @param other Reference to the right hand Scalar
@@ -96,4 +104,81 @@ abstract class ComparableScalar implements Scalar {
     public String toString() {
         return this.indent(0);
     }
+
+    /**
+     * The value of this scalar, parsed as the given type. Only the last
+     * parsed value is cached: asking for the same type again reuses it,
+     * but asking for another type (e.g. integer, then doubleNumber)
+     * parses the value again and replaces the cached one. The parsed
+     * values are immutable (e.g. Integer or LocalDate), so they can be
+     * shared between threads.
+     * @param type Type of the parsed value.
+     * @param parser Parser of the value.
+     * @param <T> Type of the parsed value.
+     * @return Parsed value.
+     */
+    <T> T parsed(final Class<T> type, final Function<String, T> parser) {
+        final Object cached = this.parsed;
+        final T value;
+        if(type.isInstance(cached)) {
+            value = type.cast(cached);
+        } else {
+            value = this.parseValue(type, parser);
+            this.parsed = value;
+        }
+        return value;
+    }
+
+    /**
+     * Parse the value of this scalar. By default, the parser is given the
+     * value, but the scalars which are read from some input may parse it
+     * directly from the input, without creating the String.
+     * @param type Type of the parsed value.
+     * @param parser Parser of the value.
+     * @param <T> Type of the parsed value.
+     * @return Parsed value.
+     */
+    <T> T parseValue(final Class<T> type, final Function<String, T> parser) {
+        return parser.apply(this.value());
+    }
+
+    /**
+     * The value of the given node, parsed as the given type. If the node is
+     * a ComparableScalar, its parsed value is cached
+     * (see {@link #parsed(Class, Function)}).
+     * @param node YamlNode.
+     * @param type Type of the parsed value.
+     * @param parser Parser of the value.
+     * @param <T> Type of the parsed value.
+     * @return Parsed value or null if the node is not a Scalar.
+     */
+    static <T> T parse(
+        final YamlNode node, final Class<T> type,
+        final Function<String, T> parser
+    ) {
+        T value = null;
+        if(node instanceof ComparableScalar) {
+            value = ((ComparableScalar) node).parsed(type, parser);
+        } else if(node instanceof Scalar) {
+            value = parser.apply(((Scalar) node).value());
+        }
+        return value;
+    }
+
+    /**
+     * Parser which does not parse the empty values: it returns null
+     * for them, instead.
+     * @param parser Parser of the values which are not empty.
+     * @param <T> Type of the parsed value.
+     * @return Parser.
+     */
+    static <T> Function<String, T> nonEmpty(final Function<String, T> parser) {
+        return value -> {
+            T parsed = null;
+            if(!value.isEmpty()) {
+                parsed = parser.apply(value);
+            }
+            return parsed;
+        };
+    }
 }
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the YAML documents of a {@link LineTable}. It splits
+ * on document boundaries, which are found in a single pass over the lines
+ * (see {@link LineTable#documents()}), and reads each document only when
+ * it is reached. In a parallel Stream, the documents are therefore read
+ * by the worker threads.<br><br>
+ * Documents without content are skipped (see {@link LineTable#documents()}).
+ * @checkstyle ParameterNumber (100 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class DocumentSpliterator implements Spliterator<YamlNode> {
+
+    /**
+     * Table of the lines.
+     */
+    private final LineTable table;
+
+    /**
+     * Bounds of the documents in the table.
+     */
+    private final int[] documents;
+
+    /**
+     * Index of the next document.
+     */
+    private int next;
+
+    /**
+     * Index (exclusive) of the last document.
+     */
+    private int fence;
+
+    /**
+     * Position (exclusive) where the lines end.
+     */
+    private final int stop;
+
+    /**
+     * Ctor.
+     * @param table Table of the lines.
+     * @param start Position where the lines start (inclusive).
+     * @param stop Position where the lines end (exclusive).
+     */
+    DocumentSpliterator(
+        final LineTable table, final int start, final int stop
+    ) {
+        this(
+            table, table.documents(),
+            DocumentSpliterator.index(table.documents(), start),
+            DocumentSpliterator.index(table.documents(), stop),
+            stop
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param table Table of the lines.
+     * @param documents Bounds of the documents in the table.
+     * @param next Index of the first document.
+     * @param fence Index (exclusive) of the last document.
+     * @param stop Position (exclusive) where the lines end.
+     */
+    private DocumentSpliterator(
+        final LineTable table, final int[] documents,
+        final int next, final int fence, final int stop
+    ) {
+        this.table = table;
+        this.documents = documents;
+        this.next = next;
+        this.fence = fence;
+        this.stop = stop;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super YamlNode> action) {
+        boolean advanced = false;
+        while (!advanced && this.next < this.fence) {
+            final int marker = this.documents[2 * this.next];
+            final int end = Math.min(
+                this.documents[2 * this.next + 1], this.stop
+            );
+            this.next++;
+            if(end > marker + 1) {
+                action.accept(
+                    new AllYamlLines(this.table, marker + 1, end)
+                        .toYamlNode(this.table.line(marker))
+                );
+                advanced = true;
+            }
+        }
+        return advanced;
+    }
+
+    @Override
+    public Spliterator<YamlNode> trySplit() {
+        Spliterator<YamlNode> prefix = null;
+        final int middle = (this.next + this.fence) >>> 1;
+        if(middle > this.next) {
+            prefix = new DocumentSpliterator(
+                this.table, this.documents, this.next, middle, this.stop
+            );
+            this.next = middle;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.next;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL
+            | Spliterator.IMMUTABLE;
+    }
+
+    /**
+     * Count the remaining documents, without reading them. Empty
+     * documents are not counted.
+     * @return Number of documents.
+     */
+    long count() {
+        long count = 0;
+        for(int idx = this.next; idx < this.fence; ++idx) {
+            final int end = Math.min(this.documents[2 * idx + 1], this.stop);
+            if(end > this.documents[2 * idx] + 1) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Index of the first document whose Start Marker is at or after
+     * the given position.
+     * @param documents Bounds of the documents.
+     * @param position Position in the table.
+     * @return Index of the document.
+     */
+    private static int index(final int[] documents, final int position) {
+        int index = 0;
+        while (2 * index < documents.length
+            && documents[2 * index] < position) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -89,4 +89,14 @@ final class EvenlyIndentedLine implements YamlLine {
     public boolean requireNestedIndentation() {
         return this.line.requireNestedIndentation();
     }
+
+    @Override
+    public LineKind kind() {
+        return this.line.kind();
+    }
+
+    @Override
+    public int flags() {
+        return this.line.flags();
+    }
 }
@@ -0,0 +1,534 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Persistent (immutable) hash trie map. Adding a pair does not change this
+ * map, it returns a new one which shares all the unchanged nodes with it,
+ * so it only copies the nodes on the path to the new pair: at most 7 small
+ * arrays (the trie consumes 5 bits of the key's hash at each level).<br><br>
+ * The map can be read like any other Map, but it cannot be modified through
+ * the Map methods (e.g. put throws UnsupportedOperationException).
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class HashTrie<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Bits of the hash consumed at each level.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Mask of the bits consumed at each level.
+     */
+    private static final int MASK = 31;
+
+    /**
+     * Shift of the last level which still has bits of the hash. Under it,
+     * the pairs have equal hashes and they are kept in a plain array.
+     */
+    private static final int LAST_SHIFT = 30;
+
+    /**
+     * Root node.
+     */
+    private final Node root;
+
+    /**
+     * Number of pairs.
+     */
+    private final int count;
+
+    /**
+     * Ctor of an empty trie.
+     */
+    HashTrie() {
+        this(new Node(0, new Object[0]), 0);
+    }
+
+    /**
+     * Ctor.
+     * @param root Root node.
+     * @param count Number of pairs.
+     */
+    private HashTrie(final Node root, final int count) {
+        this.root = root;
+        this.count = count;
+    }
+
+    /**
+     * A trie with the given pair added to the pairs of this one. If the
+     * key is already here, its value is replaced.
+     * @param key Key.
+     * @param value Value.
+     * @return New HashTrie.
+     */
+    HashTrie<K, V> with(final K key, final V value) {
+        final Pair pair = new Pair(key, value);
+        int added = this.count;
+        if(this.root.find(key, pair.hash, 0) == null) {
+            added++;
+        }
+        return new HashTrie<>(this.root.with(pair, 0), added);
+    }
+
+    /**
+     * A trie with the given pairs added to the pairs of this one. The
+     * new trie is built in one go, from the bottom up, so no node is
+     * copied: all the pairs are sorted in the order of the trie and each
+     * node is created only once, with its final size.
+     * @param pairs Pairs to add.
+     * @return New HashTrie.
+     */
+    HashTrie<K, V> withAll(final Map<? extends K, ? extends V> pairs) {
+        final Pair[] all = new Pair[this.count + pairs.size()];
+        int idx = 0;
+        for(final Map.Entry<K, V> entry : this.entrySet()) {
+            all[idx] = (Pair) entry;
+            idx++;
+        }
+        for(final Map.Entry<? extends K, ? extends V> entry
+            : pairs.entrySet()) {
+            all[idx] = new Pair(entry.getKey(), entry.getValue());
+            idx++;
+        }
+        Arrays.sort(all, Comparator.comparingLong(pair -> pair.order()));
+        final Node built = HashTrie.build(all, 0, all.length, 0);
+        return new HashTrie<>(built, built.size());
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Pair pair = this.root.find(key, Objects.hashCode(key), 0);
+        V value = null;
+        if(pair != null) {
+            value = this.cast(pair).getValue();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.root.find(key, Objects.hashCode(key), 0) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new Entries(HashTrie.this.root);
+            }
+
+            @Override
+            public int size() {
+                return HashTrie.this.count;
+            }
+        };
+    }
+
+    /**
+     * A pair of this trie, with its types.
+     * @param pair Pair.
+     * @return Map.Entry.
+     */
+    @SuppressWarnings("unchecked")
+    private Map.Entry<K, V> cast(final Pair pair) {
+        return (Map.Entry<K, V>) pair;
+    }
+
+    /**
+     * Build the node of the given sorted pairs, between the given
+     * positions, at the given level.
+     * @param pairs Pairs, sorted in the order of the trie.
+     * @param from Start position.
+     * @param until End position (exclusive).
+     * @param shift Shift of the level.
+     * @return Node.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private static Node build(
+        final Pair[] pairs, final int from, final int until, final int shift
+    ) {
+        final Node node;
+        if(shift > LAST_SHIFT) {
+            Node collisions = new Node(0, new Object[0]);
+            for(int idx = from; idx < until; ++idx) {
+                collisions = collisions.with(pairs[idx], shift);
+            }
+            node = collisions;
+        } else {
+            int bitmap = 0;
+            for(int idx = from; idx < until; ++idx) {
+                bitmap = bitmap | HashTrie.bit(pairs[idx].hash, shift);
+            }
+            final Object[] slots = new Object[Integer.bitCount(bitmap)];
+            int start = from;
+            for(int slot = 0; slot < slots.length; ++slot) {
+                final int bit = HashTrie.bit(pairs[start].hash, shift);
+                int end = start + 1;
+                while (end < until
+                    && HashTrie.bit(pairs[end].hash, shift) == bit) {
+                    end++;
+                }
+                slots[slot] = HashTrie.slot(pairs, start, end, shift);
+                start = end;
+            }
+            node = new Node(bitmap, slots);
+        }
+        return node;
+    }
+
+    /**
+     * The slot of the given sorted pairs, which share the same bits of
+     * the hash at the given level: the pair itself, if there is only one,
+     * or the node of the next level.
+     * @param pairs Pairs, sorted in the order of the trie.
+     * @param from Start position.
+     * @param until End position (exclusive).
+     * @param shift Shift of the level.
+     * @return Pair or Node.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private static Object slot(
+        final Pair[] pairs, final int from, final int until, final int shift
+    ) {
+        Object slot = pairs[from];
+        if(until - from > 1) {
+            final Node node = HashTrie.build(
+                pairs, from, until, shift + BITS
+            );
+            if(node.slots.length == 1 && node.slots[0] instanceof Pair) {
+                slot = node.slots[0];
+            } else {
+                slot = node;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * The bit of the given hash at the given level.
+     * @param hash Hash.
+     * @param shift Shift of the level.
+     * @return Integer with a single bit set.
+     */
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Node of the trie. Its slots are pairs or nodes of the next level,
+     * in the order of the bits set in the bitmap. Under the last level,
+     * the slots are the pairs with equal hashes, and the bitmap is not used.
+     */
+    private static final class Node {
+
+        /**
+         * Bits of the slots.
+         */
+        private final int bitmap;
+
+        /**
+         * Slots.
+         */
+        private final Object[] slots;
+
+        /**
+         * Ctor.
+         * @param bitmap Bits of the slots.
+         * @param slots Slots.
+         */
+        Node(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        /**
+         * This node with the given pair added.
+         * @param pair Pair.
+         * @param shift Shift of this node's level.
+         * @return New Node.
+         */
+        Node with(final Pair pair, final int shift) {
+            final Node node;
+            if(shift > LAST_SHIFT) {
+                node = this.collide(pair);
+            } else {
+                final int bit = HashTrie.bit(pair.hash, shift);
+                final int idx = Integer.bitCount(this.bitmap & (bit - 1));
+                if((this.bitmap & bit) == 0) {
+                    final Object[] grown = new Object[this.slots.length + 1];
+                    System.arraycopy(this.slots, 0, grown, 0, idx);
+                    grown[idx] = pair;
+                    System.arraycopy(
+                        this.slots, idx, grown, idx + 1, this.slots.length - idx
+                    );
+                    node = new Node(this.bitmap | bit, grown);
+                } else {
+                    node = this.replaced(
+                        idx, this.merged(this.slots[idx], pair, shift)
+                    );
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Find the pair with the given key.
+         * @param key Key.
+         * @param hash Hash of the key.
+         * @param shift Shift of this node's level.
+         * @return Pair or null if the key is not found.
+         */
+        Pair find(final Object key, final int hash, final int shift) {
+            Pair found = null;
+            if(shift > LAST_SHIFT) {
+                for(final Object slot : this.slots) {
+                    if(Objects.equals(((Pair) slot).getKey(), key)) {
+                        found = (Pair) slot;
+                    }
+                }
+            } else {
+                final int bit = HashTrie.bit(hash, shift);
+                if((this.bitmap & bit) != 0) {
+                    final int idx = Integer.bitCount(this.bitmap & (bit - 1));
+                    final Object slot = this.slots[idx];
+                    if(slot instanceof Node) {
+                        found = ((Node) slot).find(key, hash, shift + BITS);
+                    } else if(Objects.equals(((Pair) slot).getKey(), key)) {
+                        found = (Pair) slot;
+                    }
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Number of pairs under this node.
+         * @return Integer.
+         */
+        int size() {
+            int size = 0;
+            for(final Object slot : this.slots) {
+                if(slot instanceof Node) {
+                    size = size + ((Node) slot).size();
+                } else {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        /**
+         * The slot with the given pair added to it.
+         * @param slot Existing slot, a pair or a node.
+         * @param pair Added pair.
+         * @param shift Shift of this node's level.
+         * @return Pair or Node.
+         */
+        private Object merged(
+            final Object slot, final Pair pair, final int shift
+        ) {
+            final Object merged;
+            if(slot instanceof Node) {
+                merged = ((Node) slot).with(pair, shift + BITS);
+            } else if(Objects.equals(((Pair) slot).getKey(), pair.getKey())) {
+                merged = pair;
+            } else {
+                merged = new Node(0, new Object[0])
+                    .with((Pair) slot, shift + BITS)
+                    .with(pair, shift + BITS);
+            }
+            return merged;
+        }
+
+        /**
+         * This node with the slot at the given index replaced.
+         * @param idx Index of the slot.
+         * @param slot New slot.
+         * @return New Node.
+         */
+        private Node replaced(final int idx, final Object slot) {
+            final Object[] copy = this.slots.clone();
+            copy[idx] = slot;
+            return new Node(this.bitmap, copy);
+        }
+
+        /**
+         * This node, under the last level, with the given pair added.
+         * @param pair Pair.
+         * @return New Node.
+         */
+        private Node collide(final Pair pair) {
+            int idx = 0;
+            while (idx < this.slots.length
+                && !Objects.equals(((Pair) this.slots[idx]).getKey(),
+                    pair.getKey())) {
+                idx++;
+            }
+            final Node node;
+            if(idx < this.slots.length) {
+                node = this.replaced(idx, pair);
+            } else {
+                final Object[] grown = Arrays.copyOf(
+                    this.slots, this.slots.length + 1
+                );
+                grown[idx] = pair;
+                node = new Node(this.bitmap, grown);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Pair of the trie, with the hash of its key.
+     */
+    private static final class Pair
+        extends AbstractMap.SimpleImmutableEntry<Object, Object> {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Hash of the key.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param key Key.
+         * @param value Value.
+         */
+        Pair(final Object key, final Object value) {
+            super(key, value);
+            this.hash = Objects.hashCode(key);
+        }
+
+        /**
+         * Position of this pair in the order of the trie: the bits of the
+         * hash, taken 5 at a time from the lowest, like the levels of the
+         * trie. The pairs which end up in the same node are consecutive in
+         * this order.
+         * @return Long.
+         */
+        long order() {
+            long order = 0;
+            for(int shift = 0; shift <= LAST_SHIFT; shift = shift + BITS) {
+                order = order << BITS | (this.hash >>> shift) & MASK;
+            }
+            return order;
+        }
+    }
+
+    /**
+     * Iterator over the pairs of a trie, depth first.
+     */
+    private final class Entries implements Iterator<Map.Entry<K, V>> {
+
+        /**
+         * Iterators over the slots of the nodes on the current path.
+         */
+        private final Deque<Iterator<Object>> path;
+
+        /**
+         * Next pair, null if there is none.
+         */
+        private Pair next;
+
+        /**
+         * Ctor.
+         * @param root Root node.
+         */
+        Entries(final Node root) {
+            this.path = new ArrayDeque<>();
+            this.path.push(Arrays.asList(root.slots).iterator());
+            this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if(this.next == null) {
+                throw new NoSuchElementException("No more pairs in the trie");
+            }
+            final Pair current = this.next;
+            this.advance();
+            return HashTrie.this.cast(current);
+        }
+
+        /**
+         * Move to the next pair.
+         */
+        private void advance() {
+            this.next = null;
+            while (this.next == null && !this.path.isEmpty()) {
+                final Iterator<Object> slots = this.path.peek();
+                if(slots.hasNext()) {
+                    final Object slot = slots.next();
+                    if(slot instanceof Node) {
+                        this.path.push(
+                            Arrays.asList(((Node) slot).slots).iterator()
+                        );
+                    } else {
+                        this.next = (Pair) slot;
+                    }
+                } else {
+                    this.path.pop();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Buffer holding the whole YAML input. The lines read from it
+ * (see {@link ReadYamlLine}) are only slices of this buffer.<br><br>
+ * The structure of YAML (indentation, ':', '-', '#', quotes, markers)
+ * is made of ASCII characters only, so it can be found by looking at the
+ * units of the buffer (chars or bytes), without decoding them. Only the
+ * text which is actually requested is decoded into Strings.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+interface InputBuffer {
+
+    /**
+     * Number of units (chars or bytes) in this buffer.
+     * @return Integer.
+     */
+    int length();
+
+    /**
+     * The unit at the given position. For the ASCII characters, it is
+     * the character's code.
+     * @param position Position in the buffer.
+     * @return Integer, the char or unsigned byte value.
+     */
+    int unit(final int position);
+
+    /**
+     * The text between the given positions.
+     * @param start Start position (inclusive).
+     * @param end End position (exclusive).
+     * @return String.
+     */
+    String text(final int start, final int end);
+
+}
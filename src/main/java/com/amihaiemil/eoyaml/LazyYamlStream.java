@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * YAML Stream which reads its documents lazily, one at a time, as they
+ * are consumed. A document is discarded as soon as the consumer moves on
+ * to the next one, so the Stream never holds all the documents in
+ * memory.<br><br>
+ * The documents are read only once: after iterating or streaming over
+ * them, they are gone. The methods which need all the documents at once
+ * (e.g. values().size(), indent(...), equals(...)) read all the remaining
+ * documents and keep them in memory.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class LazyYamlStream extends ComparableYamlStream {
+
+    /**
+     * The documents, read one at a time.
+     */
+    private final Iterator<YamlNode> documents;
+
+    /**
+     * Documents which were kept in memory, because all of them
+     * were needed at once (e.g. for size()).
+     */
+    private final List<YamlNode> kept;
+
+    /**
+     * Ctor.
+     * @param documents The documents, read one at a time.
+     */
+    LazyYamlStream(final Iterator<YamlNode> documents) {
+        this.documents = documents;
+        this.kept = new ArrayList<>();
+    }
+
+    /**
+     * The documents of this Stream. The returned collection is not
+     * sized: iterating or streaming it reads the documents one by one,
+     * while its size() reads all the remaining documents and keeps them
+     * in memory.
+     * @return Collection of YamlNode.
+     */
+    @Override
+    public Collection<YamlNode> values() {
+        return new AbstractCollection<YamlNode>() {
+            @Override
+            public Iterator<YamlNode> iterator() {
+                return LazyYamlStream.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return LazyYamlStream.this.keepAll().size();
+            }
+
+            @Override
+            public Spliterator<YamlNode> spliterator() {
+                return LazyYamlStream.this.spliterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<YamlNode> iterator() {
+        return Stream.concat(
+            this.kept.stream(),
+            StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                    this.documents, Spliterator.ORDERED | Spliterator.NONNULL
+                ),
+                false
+            )
+        ).iterator();
+    }
+
+    @Override
+    public Spliterator<YamlNode> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL
+        );
+    }
+
+    /**
+     * Read all the remaining documents and keep them in memory.
+     * @return All the documents.
+     */
+    private List<YamlNode> keepAll() {
+        while (this.documents.hasNext()) {
+            this.kept.add(this.documents.next());
+        }
+        return this.kept;
+    }
+}
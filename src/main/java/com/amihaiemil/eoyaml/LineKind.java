@@ -0,0 +1,283 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Kind of a YAML line, given by its trimmed contents (without comments).
+ * It is computed only once for each line read from an input
+ * (see {@link ReadYamlLine}), together with its flags, so checking the
+ * shape of a line does not look at its text again.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+enum LineKind {
+
+    /**
+     * Key with its value nested bellow (e.g. "key:").
+     */
+    KEY_ONLY,
+
+    /**
+     * Key and its value on the same line (e.g. "key: value").
+     */
+    KEY_VALUE,
+
+    /**
+     * Element of a sequence (e.g. "- value", "- |" or "-").
+     */
+    SEQUENCE_ITEM,
+
+    /**
+     * Complex key (e.g. "?").
+     */
+    COMPLEX_KEY,
+
+    /**
+     * Header of a literal or folded block scalar (e.g. "key: |").
+     */
+    BLOCK_SCALAR_HEADER,
+
+    /**
+     * Document Start or End Marker ("---" or "...").
+     */
+    MARKER,
+
+    /**
+     * Directive (e.g. "%YAML 1.2") or tag (e.g. "!!set").
+     */
+    DIRECTIVE,
+
+    /**
+     * Any other line (e.g. a line of a block scalar, or an empty line).
+     */
+    TEXT;
+
+    /**
+     * Flag of the lines which are followed by deeper indented lines
+     * (see {@link YamlLine#requireNestedIndentation()}).
+     */
+    static final int NESTED = 1;
+
+    /**
+     * Flag of the Document Start Marker ("---").
+     */
+    static final int START = 2;
+
+    /**
+     * Flag of the lines made of a single indicator (e.g. "-" or "?").
+     */
+    static final int BARE = 4;
+
+    /**
+     * Is this the kind of the lines which are ignored when reading YAML
+     * nodes (see {@link NoDirectivesOrMarkers})?
+     * @return True or false.
+     */
+    boolean ignored() {
+        return this == MARKER || this == DIRECTIVE;
+    }
+
+    /**
+     * The kind of the given trimmed line.
+     * @param trimmed Trimmed line.
+     * @return LineKind.
+     */
+    static LineKind kindOf(final String trimmed) {
+        return LineKind.kindOf(
+            new StringInputBuffer(trimmed), 0, trimmed.length()
+        );
+    }
+
+    /**
+     * The kind of the trimmed line between the given positions.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the trimmed line starts.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return LineKind.
+     */
+    static LineKind kindOf(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        LineKind kind = TEXT;
+        if(start < end) {
+            final int first = buffer.unit(start);
+            if(LineKind.marker(buffer, start, end) != -1) {
+                kind = MARKER;
+            } else if(first == '%'
+                || first == '!' && LineKind.repeats(buffer, start, end)) {
+                kind = DIRECTIVE;
+            } else if(first == '?') {
+                kind = COMPLEX_KEY;
+            } else if(first == '-') {
+                kind = SEQUENCE_ITEM;
+            } else {
+                kind = LineKind.key(buffer, start, end);
+            }
+        }
+        return kind;
+    }
+
+    /**
+     * The flags of the given trimmed line.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    static int flags(final String trimmed) {
+        return LineKind.flags(
+            new StringInputBuffer(trimmed), 0, trimmed.length()
+        );
+    }
+
+    /**
+     * The flags of the trimmed line between the given positions.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the trimmed line starts.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return Flags.
+     */
+    static int flags(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int flags = 0;
+        if(start < end) {
+            if(end - start == 1) {
+                flags = flags | BARE;
+            }
+            if(LineKind.marker(buffer, start, end) == '-') {
+                flags = flags | START;
+            } else if(":>|-?".indexOf(buffer.unit(end - 1)) != -1) {
+                flags = flags | NESTED;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * The kind of a line which may be a key: a key with its value nested
+     * bellow if the first ':' is the last character, the header of a block
+     * scalar if the value is only '|' or '>' (see {@link #isBlockHeader}),
+     * a key with its value on the same line if there is another value,
+     * or text otherwise.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the trimmed line starts.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return LineKind.
+     */
+    private static LineKind key(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int colon = start;
+        while (colon < end && buffer.unit(colon) != ':') {
+            colon++;
+        }
+        final LineKind kind;
+        if(colon == end) {
+            kind = TEXT;
+        } else if(colon == end - 1) {
+            kind = KEY_ONLY;
+        } else if(LineKind.isBlockHeader(buffer, colon + 1, end)) {
+            kind = BLOCK_SCALAR_HEADER;
+        } else {
+            kind = KEY_VALUE;
+        }
+        return kind;
+    }
+
+    /**
+     * Is the value between the given positions the header of a block
+     * scalar? It is '|' or '>', optionally followed by the chomping
+     * indicator ('-' or '+') and the indentation indicator (1 to 9),
+     * in any order (e.g. "|", ">-" or "|2+").
+     * @param buffer Buffer holding the line.
+     * @param start Position where the value starts, after the ':'.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return True or false.
+     */
+    private static boolean isBlockHeader(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int from = start;
+        while (from < end && buffer.unit(from) <= ' ') {
+            from++;
+        }
+        boolean header = from < end && end - from <= 3
+            && (buffer.unit(from) == '|' || buffer.unit(from) == '>');
+        for(int idx = from + 1; header && idx < end; ++idx) {
+            header = LineKind.isIndicator(buffer.unit(idx));
+        }
+        return header;
+    }
+
+    /**
+     * Is the given character a chomping ('-' or '+') or an indentation
+     * (1 to 9) indicator of a block scalar's header?
+     * @param character Character.
+     * @return True or false.
+     */
+    private static boolean isIndicator(final int character) {
+        return character == '-' || character == '+'
+            || character >= '1' && character <= '9';
+    }
+
+    /**
+     * The character of the marker ("---" or "...") between the given
+     * positions.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the trimmed line starts.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return The character or -1 if the line is not a marker.
+     */
+    private static int marker(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int marker = -1;
+        final int first = buffer.unit(start);
+        if(end - start == 3 && (first == '-' || first == '.')) {
+            if(buffer.unit(start + 1) == first
+                && buffer.unit(start + 2) == first) {
+                marker = first;
+            }
+        }
+        return marker;
+    }
+
+    /**
+     * Is the first character of the line repeated (e.g. "!!")?
+     * @param buffer Buffer holding the line.
+     * @param start Position where the trimmed line starts.
+     * @param end Position where the trimmed line ends (exclusive).
+     * @return True or false.
+     */
+    private static boolean repeats(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        return end - start > 1
+            && buffer.unit(start + 1) == buffer.unit(start);
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Scans an {@link InputBuffer} and splits it into lines. Each line is a
+ * slice of the buffer (see {@link ReadYamlLine}). Lines can be terminated
+ * by "\n", "\r\n" or "\r". Blank lines (empty or only with a comment) are
+ * skipped, but they are still counted for the numbers of the lines.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class LineScanner {
+
+    /**
+     * Buffer to scan.
+     */
+    private final InputBuffer buffer;
+
+    /**
+     * Number of the buffer's first line.
+     */
+    private final int first;
+
+    /**
+     * Ctor.
+     * @param buffer Buffer to scan.
+     */
+    LineScanner(final InputBuffer buffer) {
+        this(buffer, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param buffer Buffer to scan.
+     * @param first Number of the buffer's first line (e.g. if the buffer
+     *  holds only a part of the input).
+     */
+    LineScanner(final InputBuffer buffer, final int first) {
+        this.buffer = buffer;
+        this.first = first;
+    }
+
+    /**
+     * Scan the buffer. Once all the lines are read, they are put in a
+     * {@link LineTable}, which also computes where the nested lines of
+     * each line end.
+     * @return All the read YamlLines.
+     */
+    AllYamlLines scan() {
+        final List<YamlLine> lines = new ArrayList<>();
+        this.forEach(lines::add);
+        return new AllYamlLines(new LineTable(lines));
+    }
+
+    /**
+     * Scan the buffer and give each line which is not blank to the
+     * given action, without keeping the lines.
+     * @param action Action to perform on each line.
+     */
+    void forEach(final Consumer<ReadYamlLine> action) {
+        final int length = this.buffer.length();
+        int number = this.first;
+        int start = 0;
+        while (start < length) {
+            final int end = this.lineEnd(start);
+            final ReadYamlLine line = new ReadYamlLine(
+                this.buffer, number, start, end
+            );
+            if(!line.blank()) {
+                action.accept(line);
+            }
+            number++;
+            start = this.nextStart(end);
+        }
+    }
+
+    /**
+     * Scan the buffer, keeping only the lines of the selected keys.
+     * The lines of the skipped subtrees are not read as YamlLines, only
+     * their indentation is looked at.
+     * @param keys Selected keys.
+     * @return The read YamlLines of the selected keys.
+     */
+    AllYamlLines scan(final SelectedKeys keys) {
+        final List<YamlLine> lines = new ArrayList<>();
+        final int length = this.buffer.length();
+        int number = this.first;
+        int start = 0;
+        while (start < length) {
+            final int end = this.lineEnd(start);
+            int content = start;
+            while (content < end && this.buffer.unit(content) == ' ') {
+                content++;
+            }
+            if(!this.blank(content, end)) {
+                if(keys.nested(content - start)) {
+                    if(keys.keepsNested()) {
+                        lines.add(
+                            new ReadYamlLine(this.buffer, number, start, end)
+                        );
+                    }
+                } else {
+                    final ReadYamlLine line = new ReadYamlLine(
+                        this.buffer, number, start, end
+                    );
+                    if(keys.keeps(line)) {
+                        lines.add(line);
+                    }
+                }
+            }
+            number++;
+            start = this.nextStart(end);
+        }
+        keys.dropUnused(lines);
+        return new AllYamlLines(new LineTable(lines));
+    }
+
+    /**
+     * Position where the line starting at the given position ends,
+     * without the line terminator.
+     * @param start Position where the line starts.
+     * @return Position of the line terminator or the buffer's length.
+     */
+    private int lineEnd(final int start) {
+        final int length = this.buffer.length();
+        int end = start;
+        while (end < length && this.buffer.unit(end) != '\n'
+            && this.buffer.unit(end) != '\r') {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Position where the next line starts.
+     * @param end Position where the current line ends.
+     * @return Position after the line terminator.
+     */
+    private int nextStart(final int end) {
+        int start = end + 1;
+        if(end + 1 < this.buffer.length() && this.buffer.unit(end) == '\r'
+            && this.buffer.unit(end + 1) == '\n') {
+            start = end + 2;
+        }
+        return start;
+    }
+
+    /**
+     * Is the rest of the line blank (only whitespace or a comment)?
+     * @param content Position of the line's first non-space character.
+     * @param end Position where the line ends.
+     * @return True or false.
+     */
+    private boolean blank(final int content, final int end) {
+        int idx = content;
+        while (idx < end && this.buffer.unit(idx) <= ' ') {
+            idx++;
+        }
+        return idx == end || this.buffer.unit(idx) == '#';
+    }
+}
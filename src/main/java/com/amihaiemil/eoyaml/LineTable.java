@@ -0,0 +1,327 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table of read YAML lines, shared by all the {@link AllYamlLines}
+ * which are views over the same input.<br><br>
+ * Lines are kept in reading order and, for each of them, the table knows
+ * where its nested lines end. These boundaries are computed only once,
+ * in a single pass, when the table is created. The table also maps the
+ * line numbers to positions, so a line can be looked up by its number
+ * in constant time.<br><br>
+ * Finally, the table remembers which of its lines have already been
+ * verified by {@link WellIndented}, so the indentation of a YAML document
+ * is verified only once, not again for every nested node.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class LineTable {
+
+    /**
+     * The lines, in reading order.
+     */
+    private final YamlLine[] lines;
+
+    /**
+     * Position (exclusive) where the lines nested under each line end.
+     */
+    private final int[] ends;
+
+    /**
+     * Position of each line, indexed by line number minus {@link #base}.
+     * It is -1 for the numbers which are not in this table (e.g. empty
+     * lines are not read).
+     */
+    private final int[] positions;
+
+    /**
+     * Smallest line number in this table. The table may hold only a part
+     * of the input (e.g. one document of a stream), so the positions
+     * are indexed from this number, not from 0.
+     */
+    private final int base;
+
+    /**
+     * Positions of the lines whose indentation has been verified.
+     */
+    private final BitSet wellIndented = new BitSet();
+
+    /**
+     * Bounds of the YAML documents, computed once, when first needed
+     * (see {@link #documents()}).
+     */
+    private int[] documents;
+
+    /**
+     * Ctor.
+     * @param lines Lines, in reading order.
+     */
+    LineTable(final Collection<YamlLine> lines) {
+        this.lines = lines.toArray(new YamlLine[lines.size()]);
+        this.ends = new int[this.lines.length];
+        final int[] stack = new int[this.lines.length];
+        final int[] indentations = new int[this.lines.length];
+        int top = -1;
+        for(int pos = 0; pos < this.lines.length; ++pos) {
+            indentations[pos] = this.lines[pos].indentation();
+            while(top >= 0 && indentations[stack[top]] >= indentations[pos]) {
+                this.ends[stack[top]] = pos;
+                top = top - 1;
+            }
+            top = top + 1;
+            stack[top] = pos;
+        }
+        for(int idx = 0; idx <= top; ++idx) {
+            this.ends[stack[idx]] = this.lines.length;
+        }
+        this.base = LineTable.base(this.lines);
+        this.positions = LineTable.positions(this.lines, this.base);
+    }
+
+    /**
+     * Number of lines in this table.
+     * @return Integer.
+     */
+    int size() {
+        return this.lines.length;
+    }
+
+    /**
+     * The line at the given position.
+     * @param position Position of the line in this table.
+     * @return YamlLine.
+     */
+    YamlLine line(final int position) {
+        return this.lines[position];
+    }
+
+    /**
+     * Position (exclusive) where the lines nested under the line
+     * at the given position end. If nothing is nested, it is the position
+     * right after the given one.
+     * @param position Position of the line in this table.
+     * @return Integer.
+     */
+    int end(final int position) {
+        return this.ends[position];
+    }
+
+    /**
+     * Position of the line with the given number, looked up between
+     * the given positions.
+     * @param number Number of the line.
+     * @param start Start position (inclusive).
+     * @param stop End position (exclusive).
+     * @return Position of the line or -1 if it is not found.
+     */
+    int position(final int number, final int start, final int stop) {
+        int found = -1;
+        final int index = number - this.base;
+        if(index >= 0 && index < this.positions.length) {
+            found = this.positions[index];
+        }
+        if(found < start || found >= stop) {
+            found = -1;
+            for(int pos = start; pos < stop; ++pos) {
+                if(this.lines[pos].number() == number) {
+                    found = pos;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The lines between the given positions. The returned List is
+     * an unmodifiable view over this table, nothing is copied.
+     * @param start Start position (inclusive).
+     * @param stop End position (exclusive).
+     * @return List of YamlLine.
+     */
+    List<YamlLine> lines(final int start, final int stop) {
+        return Collections.unmodifiableList(
+            Arrays.asList(this.lines).subList(start, stop)
+        );
+    }
+
+    /**
+     * Have the lines between the given positions been verified
+     * to be well indented?
+     * @param start Start position (inclusive).
+     * @param stop End position (exclusive).
+     * @return True or false.
+     */
+    synchronized boolean wellIndented(final int start, final int stop) {
+        return this.wellIndented.nextClearBit(start) >= stop;
+    }
+
+    /**
+     * Remember that the lines between the given positions have been
+     * verified to be well indented.
+     * @param start Start position (inclusive).
+     * @param stop End position (exclusive).
+     */
+    synchronized void markWellIndented(final int start, final int stop) {
+        this.wellIndented.set(start, stop);
+    }
+
+    /**
+     * Bounds of the YAML documents in this table. For the k-th document,
+     * [2 * k] is the position of its Start Marker (---) and [2 * k + 1]
+     * is the position (exclusive) where its lines end: the next Start
+     * Marker, an End Marker (...) or the end of the table. The documents
+     * without content (only directives, or no lines at all) are left out,
+     * like {@link YamlDocuments} does.<br><br>
+     * The bounds are computed once, in a single pass. The returned array
+     * is shared, it must not be modified.
+     * @return Array of positions.
+     */
+    synchronized int[] documents() {
+        if(this.documents == null) {
+            int[] bounds = new int[16];
+            int count = 0;
+            int open = -1;
+            boolean content = false;
+            for(int pos = 0; pos < this.lines.length; ++pos) {
+                final YamlLine line = this.lines[pos];
+                final boolean marker = line.kind() == LineKind.MARKER;
+                if(open >= 0 && marker) {
+                    count = LineTable.close(bounds, open, pos, count, content);
+                    open = -1;
+                }
+                if(marker && (line.flags() & LineKind.START) != 0) {
+                    if(count == bounds.length) {
+                        bounds = Arrays.copyOf(bounds, count * 2);
+                    }
+                    bounds[count] = pos;
+                    open = count;
+                    count = count + 2;
+                    content = false;
+                }
+                content = content || LineTable.hasContent(line);
+            }
+            if(open >= 0) {
+                count = LineTable.close(
+                    bounds, open, this.lines.length, count, content
+                );
+            }
+            this.documents = Arrays.copyOf(bounds, count);
+        }
+        return this.documents;
+    }
+
+    /**
+     * Close a document: it ends at the given position. If it has no
+     * content, its bounds are dropped.
+     * @param bounds Bounds of the documents.
+     * @param open Index of the closed document's bounds.
+     * @param end Position (exclusive) where the document ends.
+     * @param count Number of bounds so far.
+     * @param content Does the closed document have any content?
+     * @return Number of bounds to keep.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private static int close(
+        final int[] bounds, final int open, final int end,
+        final int count, final boolean content
+    ) {
+        bounds[open + 1] = end;
+        final int kept;
+        if(content) {
+            kept = count;
+        } else {
+            kept = open;
+        }
+        return kept;
+    }
+
+    /**
+     * Is the given line content of a document? It is not if it is
+     * a marker, a directive or blank.
+     * @param line Line.
+     * @return True or false.
+     */
+    private static boolean hasContent(final YamlLine line) {
+        final LineKind kind = line.kind();
+        return kind != LineKind.MARKER && kind != LineKind.DIRECTIVE
+            && (kind != LineKind.TEXT || !line.trimmed().isEmpty());
+    }
+
+    /**
+     * Smallest non-negative number of the given lines.
+     * @param lines Lines, in reading order.
+     * @return Line number or 0 if there are no such lines.
+     */
+    private static int base(final YamlLine[] lines) {
+        int min = Integer.MAX_VALUE;
+        for(final YamlLine line : lines) {
+            if(line.number() >= 0) {
+                min = Math.min(min, line.number());
+            }
+        }
+        int base = 0;
+        if(min != Integer.MAX_VALUE) {
+            base = min;
+        }
+        return base;
+    }
+
+    /**
+     * Map the numbers of the given lines to their positions. If more lines
+     * have the same number, the first one is taken. The array spans only
+     * the numbers between the smallest and the biggest one, so its size
+     * does not depend on where the lines are in the input.
+     * @param lines Lines, in reading order.
+     * @param base Smallest non-negative line number.
+     * @return Array of positions, indexed by line number minus base.
+     */
+    private static int[] positions(final YamlLine[] lines, final int base) {
+        int max = base - 1;
+        for(final YamlLine line : lines) {
+            max = Math.max(max, line.number());
+        }
+        final int[] positions = new int[max - base + 1];
+        Arrays.fill(positions, -1);
+        for(int pos = lines.length - 1; pos >= 0; --pos) {
+            final int number = lines[pos].number();
+            if(number >= 0) {
+                positions[number - base] = pos;
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * YamlInput reading a UTF-8 file which is mapped in memory. The file's
+ * contents are not copied on the heap: the lines are slices of the mapped
+ * bytes and only the text which is requested is decoded
+ * (see {@link Utf8InputBuffer}).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class MappedYamlInput implements YamlInput {
+
+    /**
+     * Path of the file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param path Path of the file.
+     */
+    MappedYamlInput(final Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public YamlMapping readYamlMapping() throws IOException {
+        return new ReadYamlMapping(this.readInput());
+    }
+
+    @Override
+    public YamlMapping readYamlMapping(final Collection<String> paths)
+        throws IOException {
+        return new ReadYamlMapping(
+            new LineScanner(new Utf8InputBuffer(this.map()))
+                .scan(new SelectedKeys(paths))
+        );
+    }
+
+    @Override
+    public YamlSequence readYamlSequence() throws IOException {
+        return new ReadYamlSequence(this.readInput());
+    }
+
+    @Override
+    public YamlMapping readCompactYamlMapping() throws IOException {
+        return new CompactDocument(
+            new Utf8InputBuffer(this.map()), CompactDocument.MAPPING
+        ).mapping();
+    }
+
+    @Override
+    public YamlSequence readCompactYamlSequence() throws IOException {
+        return new CompactDocument(
+            new Utf8InputBuffer(this.map()), CompactDocument.SEQUENCE
+        ).sequence();
+    }
+
+    @Override
+    public YamlStream readYamlStream() throws IOException {
+        return new ReadYamlStream(this.readInput());
+    }
+
+    /**
+     * Map the file in memory and read its lines.
+     * @return All read YamlLines.
+     * @throws IOException If the file cannot be mapped.
+     */
+    private AllYamlLines readInput() throws IOException {
+        return new LineScanner(new Utf8InputBuffer(this.map())).scan();
+    }
+
+    /**
+     * Map the file in memory. The mapping remains valid after
+     * the channel is closed.
+     * @return MappedByteBuffer.
+     * @throws IOException If the file cannot be mapped.
+     */
+    private MappedByteBuffer map() throws IOException {
+        try (
+            FileChannel channel = FileChannel.open(
+                this.path, StandardOpenOption.READ
+            )
+        ) {
+            final long size = channel.size();
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException(
+                    "File " + this.path + " is too big to be mapped ("
+                    + size + " bytes). Read it as an InputStream instead."
+                );
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+}
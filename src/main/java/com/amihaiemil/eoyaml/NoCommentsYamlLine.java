@@ -94,7 +94,7 @@ final class NoCommentsYamlLine implements YamlLine {
 
     @Override
     public boolean requireNestedIndentation() {
-        return new RtYamlLine(this.trimmed(), 0).requireNestedIndentation();
+        return (this.flags() & LineKind.NESTED) != 0;
     }
 
     @Override
@@ -66,13 +66,7 @@ final class NoDirectivesOrMarkers implements YamlLines {
             final List<YamlLine> noDirsOrMarks = new ArrayList<>();
             while (iterator.hasNext()) {
                 final YamlLine current = iterator.next();
-                final String currentLine = current.trimmed();
-                if (
-                    "---".equals(currentLine)
-                        || "...".equals(currentLine)
-                        || currentLine.startsWith("%")
-                        || currentLine.startsWith("!!")
-                ) {
+                if (current.kind().ignored()) {
                     continue;
                 } else {
                     noDirsOrMarks.add(current);
@@ -41,8 +41,6 @@ package com.amihaiemil.eoyaml;
  * @author Sherif Waly (sherifwaly95@gmail.com)
  * @version $Id$
  * @since 1.0.2
- * @todo #109:30m/DEV Refactor the implementation of value() and indent()
- *  methods.
  */
 final class ReadFoldedBlockScalar extends ComparableScalar {
 
@@ -51,6 +49,11 @@ final class ReadFoldedBlockScalar extends ComparableScalar {
      */
     private YamlLines lines;
 
+    /**
+     * Value of this scalar, folded on first use.
+     */
+    private String value;
+
     /**
      * Ctor.
      * @param lines Given lines to represent.
@@ -61,70 +64,65 @@ final class ReadFoldedBlockScalar extends ComparableScalar {
 
     @Override
     public String indent(final int indentation) {
-        StringBuilder builder = new StringBuilder();
-        final String newLine = System.lineSeparator();
-        for(final YamlLine line: this.lines) {
-            if(line.trimmed().length() == 0 || line.indentation() > 0) {
-                if(this.doNotEndWithNewLine(builder)) {
-                    builder.append(newLine);
-                }
-                int spaces = line.indentation();
-                if(spaces > 0) {
-                    for(int i = 0; i < spaces + indentation; i++) {
-                        builder.append(' ');
-                    }
-                }
-                builder.append(line.trimmed());
-                builder.append(newLine);
-            } else {
-                if(this.doNotEndWithNewLine(builder)) {
-                    builder.append(' ');
-                } else {
-                    for(int i = 0; i < indentation; i++) {
-                        builder.append(' ');
-                    }
-                }
-                builder.append(line.trimmed());
-            }
+        final String indented;
+        if(indentation == 0) {
+            indented = this.value();
+        } else {
+            indented = this.fold(indentation);
         }
-        return builder.toString();
+        return indented;
     }
 
     /**
-     * Checks whether StringBuilder do not end with newline or not.
-     * @param builder StringBuilder
-     * @return Boolean Whether builder do not end with newline char or not
+     * Value of this scalar. It is folded only once, the first time
+     * it is requested.
+     * @return String
      */
-    private boolean doNotEndWithNewLine(final StringBuilder builder) {
-        return builder.length() > 0
-                && !builder.toString().endsWith(System.lineSeparator());
+    public String value() {
+        if(this.value == null) {
+            this.value = this.fold(0);
+        }
+        return this.value;
     }
+
     /**
-     * Value of this scalar.
-     * @return String
+     * Fold the lines of this scalar, in a single pass. The lines which
+     * are empty or more indented are kept on their own lines, the others
+     * are joined with a space.
+     * @param indentation Indentation of the lines.
+     * @return Folded lines.
      */
-    public String value() {
-        StringBuilder builder = new StringBuilder();
+    private String fold(final int indentation) {
+        final StringBuilder builder = new StringBuilder();
         final String newLine = System.lineSeparator();
+        boolean open = false;
         for(final YamlLine line: this.lines) {
-            if(line.trimmed().length() == 0 || line.indentation() > 0) {
-                if(this.doNotEndWithNewLine(builder)) {
+            final String trimmed = line.trimmed();
+            if(trimmed.length() == 0 || line.indentation() > 0) {
+                if(open) {
                     builder.append(newLine);
                 }
-                int indentation = line.indentation();
-                for(int i = 0; i < indentation; i++) {
-                    builder.append(' ');
+                final int spaces = line.indentation();
+                if(spaces > 0) {
+                    for(int idx = 0; idx < spaces + indentation; idx++) {
+                        builder.append(' ');
+                    }
                 }
-                builder.append(line.trimmed());
+                builder.append(trimmed);
                 builder.append(newLine);
+                open = false;
             } else {
-                if(this.doNotEndWithNewLine(builder)) {
+                if(open) {
                     builder.append(' ');
+                } else {
+                    for(int idx = 0; idx < indentation; idx++) {
+                        builder.append(' ');
+                    }
                 }
-                builder.append(line.trimmed());
+                builder.append(trimmed);
+                open = true;
             }
         }
         return builder.toString();
     }
-
 }
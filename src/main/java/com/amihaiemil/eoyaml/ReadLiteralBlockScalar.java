@@ -49,6 +49,11 @@ final class ReadLiteralBlockScalar extends ComparableScalar {
      */
     private YamlLines lines;
 
+    /**
+     * Value of this scalar, read on first use.
+     */
+    private String value;
+
     /**
      * Ctor.
      * @param lines Given lines to represent.
@@ -59,32 +64,42 @@ final class ReadLiteralBlockScalar extends ComparableScalar {
 
     @Override
     public String indent(final int indentation) {
-        StringBuilder printed = new StringBuilder();
-        for(final YamlLine line: this.lines) {
-            int spaces = indentation;
-            while (spaces > 0) {
-                printed.append(" ");
-                spaces--;
-            }
-            printed.append(line.trimmed());
-            printed.append(System.lineSeparator());
+        final String indented;
+        if(indentation == 0) {
+            indented = this.value();
+        } else {
+            indented = this.print(indentation);
         }
-        printed.delete(printed.length()-1, printed.length());
-        return printed.toString();
+        return indented;
     }
 
     /**
-     * Value of this scalar.
+     * Value of this scalar. It is read only once, the first time
+     * it is requested.
      * @return String
      */
     public String value() {
-        StringBuilder builder = new StringBuilder();
-        for(final YamlLine line: this.lines) {
-            builder.append(line.trimmed());
-            builder.append(System.lineSeparator());
+        if(this.value == null) {
+            this.value = this.print(0);
         }
-        builder.delete(builder.length()-1, builder.length());
-        return builder.toString();
+        return this.value;
     }
 
+    /**
+     * Print the lines of this scalar, in a single pass.
+     * @param indentation Indentation of the lines.
+     * @return Printed lines.
+     */
+    private String print(final int indentation) {
+        final StringBuilder printed = new StringBuilder();
+        for(final YamlLine line: this.lines) {
+            for(int spaces = indentation; spaces > 0; spaces--) {
+                printed.append(' ');
+            }
+            printed.append(line.trimmed());
+            printed.append(System.lineSeparator());
+        }
+        printed.delete(printed.length()-1, printed.length());
+        return printed.toString();
+    }
 }
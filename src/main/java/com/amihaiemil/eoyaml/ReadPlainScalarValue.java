@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.function.Function;
+
 /**
  * A plain scalar value read from a read mapping or a read sequence.
  * @author Mihai Andronace (amihaiemil@gmail.com)
@@ -51,8 +53,49 @@ final class ReadPlainScalarValue extends ComparableScalar {
         this.line = line;
     }
 
+    /**
+     * The value is read from the line every time, it is not kept, so the
+     * line's text (pooled or not, see {@link StringPool}) is the only text
+     * held for it. Only the typed values parsed from it are cached
+     * (see {@link ComparableScalar#parsed(Class, Function)}).
+     * @return String value.
+     */
     @Override
     public String value() {
+        return this.read();
+    }
+
+    /**
+     * If the line was read from some input, the numbers are parsed
+     * directly from the input, without creating the String
+     * (see {@link BufferNumber}).
+     * @param type Type of the parsed value.
+     * @param parser Parser of the value.
+     * @param <T> Type of the parsed value.
+     * @return Parsed value.
+     */
+    @Override
+    <T> T parseValue(final Class<T> type, final Function<String, T> parser) {
+        T parsed = null;
+        if(this.line instanceof ReadYamlLine) {
+            final BufferNumber number = ((ReadYamlLine) this.line)
+                .scalarNumber();
+            if(number != null) {
+                parsed = number.parsed(type);
+            }
+        }
+        if(parsed == null) {
+            parsed = super.parseValue(type, parser);
+        }
+        return parsed;
+    }
+
+    /**
+     * Read the value from the line.
+     * @return String value.
+     * @throws IllegalStateException If the line has no scalar value.
+     */
+    private String read() {
         final String value;
         final String trimmed = this.line.trimmed();
         if(trimmed.startsWith("-") && trimmed.length() > 1) {
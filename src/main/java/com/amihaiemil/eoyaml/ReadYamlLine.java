@@ -0,0 +1,325 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * A YamlLine read from the input. It is a slice of the buffer which
+ * holds the whole input, so no String is created when reading it.<br><br>
+ * The buffer can hold chars or UTF-8 bytes (see {@link InputBuffer}).
+ * The indentation, the bounds of the trimmed contents (without
+ * comments) and the kind of the line are computed once, when the line
+ * is created. The trimmed
+ * String is only created when it is requested.
+ * @checkstyle ParameterNumber (100 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class ReadYamlLine implements YamlLine {
+
+    /**
+     * Buffer holding the whole input.
+     */
+    private final InputBuffer buffer;
+
+    /**
+     * Line nr.
+     */
+    private final int number;
+
+    /**
+     * Position in the buffer where this line starts (inclusive).
+     */
+    private final int start;
+
+    /**
+     * Position in the buffer where this line ends (exclusive), without
+     * the line terminator.
+     */
+    private final int end;
+
+    /**
+     * Indentation.
+     */
+    private final int indentation;
+
+    /**
+     * Position in the buffer where the trimmed contents start (inclusive).
+     */
+    private final int trimStart;
+
+    /**
+     * Position in the buffer where the trimmed contents end (exclusive).
+     */
+    private final int trimEnd;
+
+    /**
+     * Kind of this line.
+     */
+    private final LineKind kind;
+
+    /**
+     * Flags of this line.
+     */
+    private final int flags;
+
+    /**
+     * Cached trimmed contents.
+     */
+    private String trimmed;
+
+    /**
+     * Ctor.
+     * @param buffer Buffer holding the whole input.
+     * @param number Number of the line.
+     * @param start Position where the line starts (inclusive).
+     * @param end Position where the line ends (exclusive).
+     */
+    ReadYamlLine(
+        final InputBuffer buffer, final int number,
+        final int start, final int end
+    ) {
+        this.buffer = buffer;
+        this.number = number;
+        this.start = start;
+        this.end = end;
+        this.indentation = ReadYamlLine.indentation(buffer, start, end);
+        this.trimStart = ReadYamlLine.contentStart(buffer, start, end);
+        this.trimEnd = ReadYamlLine.contentEnd(buffer, this.trimStart, end);
+        this.kind = LineKind.kindOf(buffer, this.trimStart, this.trimEnd);
+        this.flags = LineKind.flags(buffer, this.trimStart, this.trimEnd);
+    }
+
+    @Override
+    public String trimmed() {
+        if(this.trimmed == null) {
+            this.trimmed = this.buffer.text(this.trimStart, this.trimEnd);
+        }
+        return this.trimmed;
+    }
+
+    @Override
+    public int number() {
+        return this.number;
+    }
+
+    @Override
+    public int indentation() {
+        return this.indentation;
+    }
+
+    @Override
+    public boolean requireNestedIndentation() {
+        return (this.flags & LineKind.NESTED) != 0;
+    }
+
+    @Override
+    public LineKind kind() {
+        return this.kind;
+    }
+
+    @Override
+    public int flags() {
+        return this.flags;
+    }
+
+    /**
+     * Position in the buffer where the trimmed contents start.
+     * @return Integer.
+     */
+    int trimStart() {
+        return this.trimStart;
+    }
+
+    /**
+     * Position in the buffer where the trimmed contents end (exclusive).
+     * @return Integer.
+     */
+    int trimEnd() {
+        return this.trimEnd;
+    }
+
+    /**
+     * The plain scalar key of this line, by the same rule as
+     * {@link ReadYamlMapping#plainKey(String)}, but read straight from the
+     * buffer, so a pooled buffer interns it (see {@link PooledInputBuffer}).
+     * @return Key or null if the line has no plain scalar key.
+     */
+    String plainKey() {
+        int colon = this.trimStart;
+        while (colon < this.trimEnd && this.buffer.unit(colon) != ':') {
+            colon++;
+        }
+        String key = null;
+        if(colon > this.trimStart && colon < this.trimEnd) {
+            int last = colon;
+            while (last > this.trimStart
+                && this.buffer.unit(last - 1) <= ' ') {
+                last--;
+            }
+            key = this.buffer.text(this.trimStart, last);
+        }
+        return key;
+    }
+
+    /**
+     * The scalar value of this line ("key: value" or "- value"), as a
+     * number in the buffer, so it can be parsed without creating a String
+     * (see {@link BufferNumber}). The quotes are not part of it, like
+     * in {@link ReadPlainScalarValue}.
+     * @return BufferNumber or null if the line has no scalar value.
+     */
+    BufferNumber scalarNumber() {
+        int from = this.trimStart;
+        if(this.trimEnd - from > 1 && this.buffer.unit(from) == '-') {
+            from++;
+        } else {
+            while (from < this.trimEnd && this.buffer.unit(from) != ':') {
+                from++;
+            }
+            from++;
+        }
+        while (from < this.trimEnd && this.buffer.unit(from) <= ' ') {
+            from++;
+        }
+        int until = this.trimEnd;
+        if(until - from > 2 && this.isQuoted(from, until)) {
+            from++;
+            until--;
+        }
+        BufferNumber found = null;
+        if(from < until) {
+            found = new BufferNumber(this.buffer, from, until);
+        }
+        return found;
+    }
+
+    /**
+     * Is this line empty (it has no contents, or only a comment)?
+     * @return True or false.
+     */
+    boolean blank() {
+        return this.trimStart == this.trimEnd;
+    }
+
+    @Override
+    public int compareTo(final YamlLine other) {
+        int result = -1;
+        if (this == other) {
+            result = 0;
+        } else if (other == null) {
+            result = 1;
+        } else {
+            result = this.trimmed().compareTo(other.trimmed());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return this.buffer.text(this.start, this.end);
+    }
+
+    /**
+     * Is the text between the given positions quoted?
+     * @param from Start position.
+     * @param until End position (exclusive).
+     * @return True or false.
+     */
+    private boolean isQuoted(final int from, final int until) {
+        final int first = this.buffer.unit(from);
+        return (first == '"' || first == '\'')
+            && this.buffer.unit(until - 1) == first;
+    }
+
+    /**
+     * Number of spaces at the beginning of the given line.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the line starts (inclusive).
+     * @param end Position where the line ends (exclusive).
+     * @return Integer.
+     */
+    private static int indentation(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int index = start;
+        while (index < end && buffer.unit(index) == ' ') {
+            index++;
+        }
+        return index - start;
+    }
+
+    /**
+     * Position where the trimmed contents of the given line start.
+     * @param buffer Buffer holding the line.
+     * @param start Position where the line starts (inclusive).
+     * @param end Position where the line ends (exclusive).
+     * @return Integer.
+     */
+    private static int contentStart(
+        final InputBuffer buffer, final int start, final int end
+    ) {
+        int first = start;
+        while(first < end && buffer.unit(first) <= ' ') {
+            first++;
+        }
+        return first;
+    }
+
+    /**
+     * Position where the trimmed contents of the given line end, without
+     * the comment. The quoted parts of the line may contain the '#'
+     * character, it is not considered a comment there.
+     * @param buffer Buffer holding the line.
+     * @param first Position where the trimmed contents start.
+     * @param end Position where the line ends (exclusive).
+     * @return Integer.
+     */
+    private static int contentEnd(
+        final InputBuffer buffer, final int first, final int end
+    ) {
+        int last = end;
+        int idx = first;
+        while(idx < last) {
+            final int current = buffer.unit(idx);
+            if(current == '#') {
+                last = idx;
+            } else if(current == '"' || current == '\'') {
+                idx++;
+                while(idx < last && buffer.unit(idx) != current) {
+                    idx++;
+                }
+            }
+            idx++;
+        }
+        while(last > first && buffer.unit(last - 1) <= ' ') {
+            last--;
+        }
+        return last;
+    }
+}
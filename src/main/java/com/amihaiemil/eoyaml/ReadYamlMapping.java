@@ -28,11 +28,15 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * YamlMapping read from somewhere. YAML directives and
  * document start/end markers are ignored. This is assumed
- * to be a plain YAML mapping.
+ * to be a plain YAML mapping.<br><br>
+ * The keys, values and nested nodes are read on first use and then
+ * reused. They are safely published, so the mapping can be shared
+ * between threads.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -42,17 +46,60 @@ final class ReadYamlMapping extends ComparableYamlMapping {
     /**
      * Lines read.
      */
-    private YamlLines lines;
+    private final YamlLines lines;
 
     /**
-     * Ctor.
+     * All the lines of this mapping, as given, without decorators.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Lines of the plain scalar keys, indexed by key. Built on first use.
+     */
+    private volatile Map<String, YamlLine> plainKeys;
+
+    /**
+     * Lines of the complex keys' values (the lines starting with ':'),
+     * indexed by key. Built on first use.
+     */
+    private volatile Map<YamlNode, YamlLine> complexKeys;
+
+    /**
+     * Values (mappings, sequences, scalars etc) which have already been
+     * read, by their plain scalar key. Each of them is read only once, so
+     * the scalars also keep their parsed values (e.g. for
+     * {@link #integer(String)}).
+     */
+    private final Map<String, YamlNode> children = new ConcurrentHashMap<>();
+
+    /**
+     * Nested nodes which have already been read, by their complex key.
+     */
+    private final Map<YamlNode, YamlNode> complexChildren =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Keys of this mapping, read on first use.
+     */
+    private volatile Set<YamlNode> keys;
+
+    /**
+     * Values of this mapping, read on first use.
+     */
+    private volatile Collection<YamlNode> values;
+
+    /**
+     * Ctor. The given lines are verified to be well indented, unless
+     * this has already been done (e.g. by the parent node).
      * @param lines Given lines.
+     * @throws IllegalStateException If the lines are not well indented.
      */
     ReadYamlMapping(final AllYamlLines lines) {
-        this.lines = new SameIndentationLevel(
-            new WellIndented(
+        this.all = lines;
+        this.lines = new CachedYamlLines(
+            new SameIndentationLevel(
                 new NoDirectivesOrMarkers(
-                    lines
+                    lines.wellIndented()
                 )
             )
         );
@@ -60,11 +107,14 @@ final class ReadYamlMapping extends ComparableYamlMapping {
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> values = new LinkedList<>();
-        for(final YamlNode key : this.keys()) {
-            values.add(this.value(key));
+        if(this.values == null) {
+            final List<YamlNode> read = new LinkedList<>();
+            for(final YamlNode key : this.keys()) {
+                read.add(this.value(key));
+            }
+            this.values = Collections.unmodifiableList(read);
         }
-        return values;
+        return this.values;
     }
 
     @Override
@@ -129,26 +179,9 @@ final class ReadYamlMapping extends ComparableYamlMapping {
         if(key instanceof Scalar) {
             value = this.string(((Scalar) key).value());
         } else {
-            boolean foundComplexKey = false;
-            for (final YamlLine line : this.lines) {
-                final String trimmed = line.trimmed();
-                if("?".equals(trimmed)) {
-                    final YamlNode keyNode = this.lines.nested(line.number())
-                            .toYamlNode(line);
-                    if(keyNode.equals(key)) {
-                        foundComplexKey = true;
-                        continue;
-                    }
-                }
-                if(foundComplexKey) {
-                    if(trimmed.endsWith(":")) {
-                        break;
-                    }
-                    if(trimmed.startsWith(":")) {
-                        value = new ReadPlainScalarValue(line).value();
-                        break;
-                    }
-                }
+            final YamlLine colonLine = this.complexKeys().get(key);
+            if(colonLine != null && !":".equals(colonLine.trimmed())) {
+                value = new ReadPlainScalarValue(colonLine).value();
             }
         }
         return value;
@@ -157,37 +190,77 @@ final class ReadYamlMapping extends ComparableYamlMapping {
     @Override
     public String string(final String key) {
         String value = null;
-        for (final YamlLine line : this.lines) {
-            final String trimmed = line.trimmed();
-            if(trimmed.endsWith(key + ":")) {
-                continue;
-            }
-            if(trimmed.startsWith(key + ":")) {
-                value = new ReadPlainScalarValue(line).value();
-            }
+        final YamlNode node = this.valueOfStringKey(key);
+        if(node instanceof ReadPlainScalarValue) {
+            value = ((Scalar) node).value();
         }
         return value;
     }
 
+    @Override
+    public int integer(final String key) {
+        final Integer value = ComparableScalar.parse(
+            this.valueOfStringKey(key), Integer.class, Integer::valueOf
+        );
+        int result = -1;
+        if(value != null) {
+            result = value;
+        }
+        return result;
+    }
+
+    @Override
+    public long longNumber(final String key) {
+        final Long value = ComparableScalar.parse(
+            this.valueOfStringKey(key), Long.class, Long::valueOf
+        );
+        long result = -1L;
+        if(value != null) {
+            result = value;
+        }
+        return result;
+    }
+
+    @Override
+    public double doubleNumber(final String key) {
+        final Double value = ComparableScalar.parse(
+            this.valueOfStringKey(key), Double.class, Double::valueOf
+        );
+        double result = -1.0;
+        if(value != null) {
+            result = value;
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return this.indent(0);
     }
 
     /**
-     * The YamlNode value associated with a String (scalar) key.
+     * The YamlNode value associated with a String (scalar) key. The
+     * scalars on the same line as their key are ReadPlainScalarValues.
      * @param key String key.
      * @return YamlNode.
      */
     private YamlNode valueOfStringKey(final String key) {
-        YamlNode value = null;
-        for (final YamlLine line : this.lines) {
-            final String trimmed = line.trimmed();
-            if(trimmed.endsWith(key + ":")) {
-                value = this.lines.nested(line.number()).toYamlNode(line);
+        return this.children.computeIfAbsent(
+            key,
+            plain -> {
+                final YamlLine line = this.plainKeys().get(plain);
+                YamlNode value = null;
+                if(line != null) {
+                    if(ReadYamlMapping.hasNestedValue(line)) {
+                        value = this.lines.nested(line.number())
+                            .toYamlNode(line);
+                    } else {
+                        value = new ReadPlainScalarValue(line);
+                    }
+                }
+                return value;
             }
-        }
-        return value;
+        );
     }
 
     /**
@@ -197,46 +270,152 @@ final class ReadYamlMapping extends ComparableYamlMapping {
      * @return YamlNode.
      */
     private YamlNode valueOfNodeKey(final YamlNode key) {
-        YamlNode value = null;
+        return this.complexChildren.computeIfAbsent(
+            key,
+            complex -> {
+                final YamlLine colon = this.complexKeys().get(complex);
+                YamlNode value = null;
+                if(colon != null && ":".equals(colon.trimmed())) {
+                    value = this.lines.nested(colon.number())
+                        .toYamlNode(colon);
+                }
+                return value;
+            }
+        );
+    }
+
+    /**
+     * Does the given key line have its value nested bellow it? This is
+     * the case if nothing follows the key's ':' character.
+     * @param line Line of a plain scalar key.
+     * @return True or false.
+     */
+    static boolean hasNestedValue(final YamlLine line) {
+        final String trimmed = line.trimmed();
+        return trimmed.indexOf(':') == trimmed.length() - 1;
+    }
+
+    /**
+     * The plain scalar key of a mapping's line: everything before the
+     * first ':' character. {@link YamlPath} looks up the keys by the same
+     * rule.
+     * @param trimmed Trimmed line.
+     * @return Key or null if the line has no plain scalar key (e.g. it is
+     *  a complex key "?" or its value ": value").
+     */
+    static String plainKey(final String trimmed) {
+        final int colon = trimmed.indexOf(':');
+        String key = null;
+        if(colon > 0) {
+            key = trimmed.substring(0, colon).trim();
+        }
+        return key;
+    }
+
+    /**
+     * The plain scalar key of a mapping's line, to be kept in the index.
+     * A line read from an input buffer gives it straight from the buffer,
+     * so it is interned if the input is pooled.
+     * @param line Line of the mapping.
+     * @return Key or null if the line has no plain scalar key.
+     */
+    private static String plainKey(final YamlLine line) {
+        final String key;
+        if(line instanceof ReadYamlLine) {
+            key = ((ReadYamlLine) line).plainKey();
+        } else {
+            key = ReadYamlMapping.plainKey(line.trimmed());
+        }
+        return key;
+    }
+
+    /**
+     * Lines of the plain scalar keys, indexed by key.
+     * @return Map of key to line.
+     */
+    private Map<String, YamlLine> plainKeys() {
+        if(this.plainKeys == null) {
+            this.indexKeys();
+        }
+        return this.plainKeys;
+    }
+
+    /**
+     * Lines of the complex keys' values, indexed by key.
+     * @return Map of key to the line starting with ':'.
+     */
+    private Map<YamlNode, YamlLine> complexKeys() {
+        if(this.complexKeys == null) {
+            this.indexKeys();
+        }
+        return this.complexKeys;
+    }
+
+    /**
+     * Index the keys of this mapping, in a single pass over its lines.
+     * If a key appears more than once, the last occurrence wins.
+     */
+    private void indexKeys() {
+        final Map<String, YamlLine> plain = new HashMap<>();
+        final Map<YamlNode, YamlLine> complex = new HashMap<>();
+        YamlNode complexKey = null;
         for (final YamlLine line : this.lines) {
             final String trimmed = line.trimmed();
             if("?".equals(trimmed)) {
-                final YamlLines keyLines = this.lines.nested(
-                    line.number()
-                );
-                final YamlNode keyNode = keyLines.toYamlNode(line);
-                if(keyNode.equals(key)) {
-                    final YamlLine colonLine = this.lines.line(
-                        line.number() + keyLines.lines().size() + 1
-                    );
-                    if(":".equals(colonLine.trimmed())) {
-                        value = this.lines.nested(colonLine.number())
-                                    .toYamlNode(colonLine);
-                    }
+                complexKey = this.lines.nested(line.number())
+                    .toYamlNode(line);
+            } else if(trimmed.startsWith(":")) {
+                if(complexKey != null) {
+                    complex.put(complexKey, line);
+                    complexKey = null;
                 }
+            } else if(trimmed.contains(":")) {
+                complexKey = null;
+                plain.put(ReadYamlMapping.plainKey(line), line);
             }
         }
-        return value;
+        this.plainKeys = Collections.unmodifiableMap(plain);
+        this.complexKeys = Collections.unmodifiableMap(complex);
     }
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new TreeSet<>();
-        for (final YamlLine line : this.lines) {
-            final String trimmed = line.trimmed();
-            if(trimmed.startsWith(":")) {
-                continue;
-            } else if ("?".equals(trimmed)) {
-                keys.add(this.lines.nested(line.number()).toYamlNode(line));
-            } else {
-                keys.add(new ReadPlainScalarKey(line));
+        if(this.keys == null) {
+            final Set<YamlNode> read = new TreeSet<>();
+            for (final YamlLine line : this.lines) {
+                final String trimmed = line.trimmed();
+                if(trimmed.startsWith(":")) {
+                    continue;
+                } else if ("?".equals(trimmed)) {
+                    read.add(
+                        this.lines.nested(line.number()).toYamlNode(line)
+                    );
+                } else {
+                    read.add(new ReadPlainScalarKey(line));
+                }
             }
+            this.keys = Collections.unmodifiableSet(read);
         }
-        return keys;
+        return this.keys;
     }
 
     @Override
     public YamlNode value(final YamlNode key) {
+        YamlNode value;
+        if(key instanceof Scalar) {
+            value = this.valueOfStringKey(((Scalar) key).value());
+        } else {
+            value = this.complexValue(key);
+        }
+        return value;
+    }
+
+    /**
+     * The value of a complex key.
+     * @param key Complex key.
+     * @return YamlNode or null if the key is not found.
+     */
+    private YamlNode complexValue(final YamlNode key) {
         YamlNode value = this.yamlMapping(key);
         if(value == null) {
             value = this.yamlSequence(key);
@@ -250,4 +429,13 @@ final class ReadYamlMapping extends ComparableYamlMapping {
         }
         return value;
     }
+
+    /**
+     * All the lines of this mapping, as given. They are used to look up
+     * nested nodes directly in the table of lines (see {@link YamlPath}).
+     * @return AllYamlLines.
+     */
+    AllYamlLines all() {
+        return this.all;
+    }
 }
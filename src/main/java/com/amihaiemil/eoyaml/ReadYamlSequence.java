@@ -27,13 +27,18 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * YamlSequence read from somewhere.
+ * YamlSequence read from somewhere.<br><br>
+ * The elements are read on first use and then reused. They are safely
+ * published, so the sequence can be shared between threads.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -43,17 +48,42 @@ final class ReadYamlSequence extends ComparableYamlSequence {
     /**
      * Lines read.
      */
-    private YamlLines lines;
+    private final YamlLines lines;
 
     /**
-     * Ctor.
+     * All the lines of this sequence, as given, without decorators.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Lines where the elements of this sequence start, in order.
+     * Built on first use.
+     */
+    private volatile List<YamlLine> elements;
+
+    /**
+     * Elements which have already been read, by index. Each element
+     * is read only once.
+     */
+    private final Map<Integer, YamlNode> children = new ConcurrentHashMap<>();
+
+    /**
+     * Values of this sequence, read on first use.
+     */
+    private volatile Collection<YamlNode> values;
+
+    /**
+     * Ctor. The given lines are verified to be well indented, unless
+     * this has already been done (e.g. by the parent node).
      * @param lines Given lines.
+     * @throws IllegalStateException If the lines are not well indented.
      */
     ReadYamlSequence(final AllYamlLines lines) {
-        this.lines = new SameIndentationLevel(
-            new WellIndented(
+        this.all = lines;
+        this.lines = new CachedYamlLines(
+            new SameIndentationLevel(
                 new NoDirectivesOrMarkers(
-                    lines
+                    lines.wellIndented()
                 )
             )
         );
@@ -61,15 +91,14 @@ final class ReadYamlSequence extends ComparableYamlSequence {
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> kids = new LinkedList<>();
-        for(final YamlLine line : this.lines) {
-            if("-".equals(line.trimmed())) {
-                kids.add(this.lines.nested(line.number()).toYamlNode(line));
-            } else {
-                kids.add(new ReadPlainScalarValue(line));
+        if(this.values == null) {
+            final List<YamlNode> kids = new ArrayList<>(this.size());
+            for(int index = 0; index < this.size(); ++index) {
+                kids.add(this.element(index));
             }
+            this.values = Collections.unmodifiableList(kids);
         }
-        return kids;
+        return this.values;
     }
 
     @Override
@@ -80,12 +109,9 @@ final class ReadYamlSequence extends ComparableYamlSequence {
     @Override
     public YamlMapping yamlMapping(final int index) {
         YamlMapping mapping = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlMapping) {
-                mapping = (YamlMapping) node;
-            }
-            count = count + 1;
+        final YamlNode node = this.element(index);
+        if (node instanceof YamlMapping) {
+            mapping = (YamlMapping) node;
         }
         return mapping;
     }
@@ -93,12 +119,9 @@ final class ReadYamlSequence extends ComparableYamlSequence {
     @Override
     public YamlSequence yamlSequence(final int index) {
         YamlSequence sequence = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlSequence) {
-                sequence = (YamlSequence) node;
-            }
-            count = count + 1;
+        final YamlNode node = this.element(index);
+        if (node instanceof YamlSequence) {
+            sequence = (YamlSequence) node;
         }
         return sequence;
     }
@@ -106,24 +129,21 @@ final class ReadYamlSequence extends ComparableYamlSequence {
     @Override
     public String string(final int index) {
         String scalar = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof Scalar) {
-                scalar = ((Scalar) node).value();
-            }
-            count = count + 1;
+        final YamlNode node = this.element(index);
+        if (node instanceof Scalar) {
+            scalar = ((Scalar) node).value();
         }
         return scalar;
     }
 
     @Override
-    @SuppressWarnings("unused")
+    public YamlNode value(final int index) {
+        return this.element(index);
+    }
+
+    @Override
     public int size() {
-        int size = 0;
-        for(final YamlLine line : this.lines) {
-            size = size + 1;
-        }
-        return size;
+        return this.elements().size();
     }
 
     @Override
@@ -131,4 +151,55 @@ final class ReadYamlSequence extends ComparableYamlSequence {
         return this.values().iterator();
     }
 
+    /**
+     * The element at the given index. Only this element is read,
+     * and only the first time it is requested.
+     * @param index Index of the element.
+     * @return YamlNode or null if the index is out of bounds.
+     */
+    private YamlNode element(final int index) {
+        YamlNode element = null;
+        if(index >= 0 && index < this.size()) {
+            element = this.children.computeIfAbsent(
+                index,
+                position -> {
+                    final YamlLine line = this.elements().get(position);
+                    final YamlNode read;
+                    if(line.kind() == LineKind.SEQUENCE_ITEM
+                        && (line.flags() & LineKind.BARE) != 0) {
+                        read = this.lines.nested(line.number())
+                            .toYamlNode(line);
+                    } else {
+                        read = new ReadPlainScalarValue(line);
+                    }
+                    return read;
+                }
+            );
+        }
+        return element;
+    }
+
+    /**
+     * Lines where the elements of this sequence start.
+     * @return List of YamlLine.
+     */
+    private List<YamlLine> elements() {
+        if(this.elements == null) {
+            final List<YamlLine> starts = new ArrayList<>();
+            for(final YamlLine line : this.lines) {
+                starts.add(line);
+            }
+            this.elements = Collections.unmodifiableList(starts);
+        }
+        return this.elements;
+    }
+
+    /**
+     * All the lines of this sequence, as given. They are used to look up
+     * nested nodes directly in the table of lines (see {@link YamlPath}).
+     * @return AllYamlLines.
+     */
+    AllYamlLines all() {
+        return this.all;
+    }
 }
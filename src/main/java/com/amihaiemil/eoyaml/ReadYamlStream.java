@@ -27,12 +27,18 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Collections;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Read YAML Stream of documents.
+ * Read YAML Stream of documents. The documents are read only once, when
+ * they are first needed, and then every operation on this Stream reuses
+ * them. The read documents are safely published, so the Stream can be
+ * shared between threads.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 3.1.4
@@ -40,31 +46,87 @@ import java.util.List;
 final class ReadYamlStream extends ComparableYamlStream {
 
     /**
-     * Read lines of this YAML Stream.
+     * All YAML lines as they are read from the input.
      */
-    private final YamlLines lines;
+    private final AllYamlLines lines;
+
+    /**
+     * Documents of this Stream, read on first use.
+     */
+    private volatile Collection<YamlNode> documents;
 
     /**
      * Constructor.
      * @param lines All YAML lines as they are read from the input.
      */
     ReadYamlStream(final AllYamlLines lines) {
-        this.lines = new WellIndented(
-            new StartMarkers(lines)
-        );
+        this.lines = lines;
     }
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> values = new ArrayList<>();
-        for(final YamlLine startDoc : this.lines) {
-            final YamlLines document = this.lines.nested(startDoc.number());
-            if(!document.lines().isEmpty()) {
-                values.add(document.toYamlNode(startDoc));
-            }
-        }
-        return values;
+        return this.documents(false);
+    }
 
+    /**
+     * Spliterator over the documents of this stream. The documents are
+     * read the first time they are needed and then reused.
+     * @return Spliterator of YamlNode.
+     */
+    @Override
+    public Spliterator<YamlNode> spliterator() {
+        return this.values().spliterator();
     }
 
+    /**
+     * Parallel Stream of the documents. If the documents have not been
+     * read yet, they are read by the worker threads, splitting on the
+     * document boundaries, and then kept for the next operations.
+     * @return Parallel Stream of YamlNode.
+     */
+    @Override
+    public Stream<YamlNode> parallel() {
+        return this.documents(true).parallelStream();
+    }
+
+    /**
+     * Number of documents. If the documents have not been read yet, they
+     * are counted without reading them, based on the document markers.
+     * @return Number of documents.
+     */
+    @Override
+    public long count() {
+        final Collection<YamlNode> read = this.documents;
+        final long count;
+        if(read == null) {
+            count = this.lines.documents().count();
+        } else {
+            count = read.size();
+        }
+        return count;
+    }
+
+    /**
+     * The documents of this Stream, read only the first time they
+     * are needed.
+     * @param parallel Should the documents be read in parallel, if they
+     *  have not been read yet?
+     * @return Unmodifiable collection of the documents.
+     */
+    private Collection<YamlNode> documents(final boolean parallel) {
+        Collection<YamlNode> read = this.documents;
+        if(read == null) {
+            synchronized (this.lines) {
+                read = this.documents;
+                if(read == null) {
+                    read = Collections.unmodifiableList(
+                        StreamSupport.stream(this.lines.documents(), parallel)
+                            .collect(Collectors.toList())
+                    );
+                    this.documents = read;
+                }
+            }
+        }
+        return read;
+    }
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Implementation of {@link YamlEvent}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class RtYamlEvent implements YamlEvent {
+
+    /**
+     * Type.
+     */
+    private final Type type;
+
+    /**
+     * Value, can be null.
+     */
+    private final String value;
+
+    /**
+     * Line number, starting from 1.
+     */
+    private final int line;
+
+    /**
+     * Ctor.
+     * @param type Type.
+     * @param line Line number, starting from 1.
+     */
+    RtYamlEvent(final Type type, final int line) {
+        this(type, null, line);
+    }
+
+    /**
+     * Ctor.
+     * @param type Type.
+     * @param value Value, can be null.
+     * @param line Line number, starting from 1.
+     */
+    RtYamlEvent(final Type type, final String value, final int line) {
+        this.type = type;
+        this.value = value;
+        this.line = line;
+    }
+
+    @Override
+    public Type type() {
+        return this.type;
+    }
+
+    @Override
+    public String value() {
+        return this.value;
+    }
+
+    @Override
+    public int line() {
+        return this.line;
+    }
+
+    @Override
+    public void accept(final YamlEventVisitor visitor) {
+        switch (this.type) {
+            case DOCUMENT_START:
+                visitor.documentStart(this.line);
+                break;
+            case DOCUMENT_END:
+                visitor.documentEnd(this.line);
+                break;
+            case START_MAPPING:
+                visitor.startMapping(this.line);
+                break;
+            case END_MAPPING:
+                visitor.endMapping(this.line);
+                break;
+            case START_SEQUENCE:
+                visitor.startSequence(this.line);
+                break;
+            case END_SEQUENCE:
+                visitor.endSequence(this.line);
+                break;
+            case KEY:
+                visitor.key(this.value, this.line);
+                break;
+            default:
+                visitor.scalar(this.value, this.line);
+                break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(this.type.name());
+        if(this.value != null) {
+            text.append(' ').append(this.value);
+        }
+        return text.append(" (line ").append(this.line).append(')')
+            .toString();
+    }
+}
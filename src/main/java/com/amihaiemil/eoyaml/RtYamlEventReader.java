@@ -0,0 +1,736 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of {@link YamlEventReader}. It reads the UTF-8 input
+ * one line at a time and keeps only a stack with the indentation of
+ * the mappings and sequences which are open, so the memory it needs
+ * does not depend on the size of the input.<br><br>
+ * Flow collections (e.g. [a, b]) are read as scalars. Block scalars
+ * (| or &gt;) are read as a single scalar: their lines are read as they
+ * are (a '#' in them is not a comment), literal ones keep their line
+ * breaks, folded ones are folded into spaces and the final line breaks
+ * are chomped as their header says (clip by default, '-' to strip and
+ * '+' to keep them).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class RtYamlEventReader implements YamlEventReader {
+
+    /**
+     * Source of the input.
+     */
+    private final BufferedReader source;
+
+    /**
+     * Events which were read, but not yet requested.
+     */
+    private final Deque<YamlEvent> events;
+
+    /**
+     * Mappings and sequences which are open, the innermost on top.
+     */
+    private final Deque<Level> levels;
+
+    /**
+     * Line which was read ahead (e.g. the one ending a block scalar).
+     */
+    private YamlLine peeked;
+
+    /**
+     * Number of lines read so far.
+     */
+    private int number;
+
+    /**
+     * Is there a document open?
+     */
+    private boolean document;
+
+    /**
+     * Indentation of the line waiting for a nested value
+     * (e.g. "key:" or "-"), or -1 if there is none.
+     */
+    private int pending;
+
+    /**
+     * Number of the line waiting for a nested value.
+     */
+    private int pendingLine;
+
+    /**
+     * Was the whole input read?
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param input UTF-8 input.
+     */
+    RtYamlEventReader(final InputStream input) {
+        this.source = new BufferedReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8)
+        );
+        this.events = new ArrayDeque<>();
+        this.levels = new ArrayDeque<>();
+        this.pending = -1;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (this.events.isEmpty() && !this.finished) {
+            this.readLine();
+        }
+        return !this.events.isEmpty();
+    }
+
+    @Override
+    public YamlEvent next() throws IOException {
+        if(!this.hasNext()) {
+            throw new NoSuchElementException("There are no more events.");
+        }
+        return this.events.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.source.close();
+    }
+
+    /**
+     * Read the next line and add its events.
+     * @throws IOException If the input cannot be read.
+     */
+    private void readLine() throws IOException {
+        final YamlLine line = this.nextLine();
+        if(line == null) {
+            this.endDocument(this.number);
+            this.finished = true;
+        } else {
+            final String trimmed = line.trimmed();
+            final int lineNumber = line.number() + 1;
+            if("---".equals(trimmed)) {
+                this.endDocument(lineNumber);
+                this.events.add(
+                    new RtYamlEvent(YamlEvent.Type.DOCUMENT_START, lineNumber)
+                );
+                this.document = true;
+            } else if("...".equals(trimmed)) {
+                this.endDocument(lineNumber);
+            } else if(!trimmed.startsWith("%")) {
+                if(!this.document) {
+                    this.events.add(
+                        new RtYamlEvent(
+                            YamlEvent.Type.DOCUMENT_START, lineNumber
+                        )
+                    );
+                    this.document = true;
+                }
+                this.content(line.indentation(), trimmed, lineNumber);
+            }
+        }
+    }
+
+    /**
+     * Add the events of a line with content.
+     * @param indentation Indentation of the line.
+     * @param line Trimmed line, without comment.
+     * @param lineNumber Number of the line.
+     * @throws IOException If the following lines cannot be read.
+     */
+    private void content(
+        final int indentation, final String line, final int lineNumber
+    ) throws IOException {
+        if(this.nests(indentation, line)) {
+            this.pending = -1;
+            this.open(indentation, line, lineNumber);
+        } else {
+            this.endPending();
+            this.close(indentation, line, lineNumber);
+            if(this.levels.isEmpty()) {
+                this.open(indentation, line, lineNumber);
+            } else if(this.levels.peek().indentation == indentation) {
+                this.entry(indentation, line, lineNumber);
+            } else {
+                throw new IllegalStateException(
+                    "Indentation of line " + lineNumber + " is incorrect. "
+                    + "It is expected to be "
+                    + this.levels.peek().indentation + "."
+                );
+            }
+        }
+    }
+
+    /**
+     * Open a new node starting with the given line.
+     * @param indentation Indentation of the node.
+     * @param line Trimmed line, without comment.
+     * @param lineNumber Number of the line.
+     * @throws IOException If the following lines cannot be read.
+     */
+    private void open(
+        final int indentation, final String line, final int lineNumber
+    ) throws IOException {
+        if(isItem(line)) {
+            this.levels.push(new Level(false, indentation));
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.START_SEQUENCE, lineNumber)
+            );
+            this.entry(indentation, line, lineNumber);
+        } else if(isPair(line)) {
+            this.levels.push(new Level(true, indentation));
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.START_MAPPING, lineNumber)
+            );
+            this.entry(indentation, line, lineNumber);
+        } else {
+            this.events.add(
+                new RtYamlEvent(
+                    YamlEvent.Type.SCALAR, unescape(line), lineNumber
+                )
+            );
+        }
+    }
+
+    /**
+     * Read an entry (item or pair) of the innermost open node.
+     * @param indentation Indentation of the entry.
+     * @param line Trimmed line, without comment.
+     * @param lineNumber Number of the line.
+     * @throws IOException If the following lines cannot be read.
+     */
+    private void entry(
+        final int indentation, final String line, final int lineNumber
+    ) throws IOException {
+        if(!this.levels.peek().mapping || isComplex(line, ':')) {
+            this.rest(indentation, line, lineNumber);
+        } else if(isComplex(line, '?')) {
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.KEY, lineNumber)
+            );
+            this.rest(indentation, line, lineNumber);
+        } else {
+            final int colon = keyEnd(line);
+            if(colon < 0) {
+                throw new IllegalStateException(
+                    "Expected a key on line " + lineNumber + ". "
+                    + "Instead, the line is: [" + line + "]."
+                );
+            }
+            this.events.add(
+                new RtYamlEvent(
+                    YamlEvent.Type.KEY,
+                    unescape(line.substring(0, colon).trim()),
+                    lineNumber
+                )
+            );
+            final String value = line.substring(colon + 1).trim();
+            if(value.isEmpty()) {
+                this.waitNested(indentation, lineNumber);
+            } else {
+                this.value(indentation, value, lineNumber);
+            }
+        }
+    }
+
+    /**
+     * Read what follows the indicator ("-", "?" or ":") of the given line.
+     * @param indentation Indentation of the line.
+     * @param line Trimmed line, without comment.
+     * @param lineNumber Number of the line.
+     * @throws IOException If the following lines cannot be read.
+     */
+    private void rest(
+        final int indentation, final String line, final int lineNumber
+    ) throws IOException {
+        final String rest = line.substring(1).trim();
+        if(rest.isEmpty()) {
+            this.waitNested(indentation, lineNumber);
+        } else if(isItem(rest) || isPair(rest)) {
+            this.open(
+                indentation + line.length() - rest.length(), rest, lineNumber
+            );
+        } else {
+            this.value(indentation, rest, lineNumber);
+        }
+    }
+
+    /**
+     * Read a scalar value, which is on the same line as its key or
+     * sequence indicator.
+     * @param indentation Indentation of the line.
+     * @param value The value.
+     * @param lineNumber Number of the line.
+     * @throws IOException If the lines of a block scalar cannot be read.
+     */
+    private void value(
+        final int indentation, final String value, final int lineNumber
+    ) throws IOException {
+        final String scalar;
+        if(isBlockHeader(value)) {
+            scalar = this.block(value, indentation);
+        } else {
+            scalar = unescape(value);
+        }
+        this.events.add(
+            new RtYamlEvent(YamlEvent.Type.SCALAR, scalar, lineNumber)
+        );
+    }
+
+    /**
+     * Read the lines of a block scalar, until the first line which is
+     * not blank and is indented less than the block's content. The lines
+     * are read raw, so comments are not removed from them.
+     * @param header Header of the block scalar (e.g. "|", "&gt;-" or "|2").
+     * @param indentation Indentation of the line with the block's header.
+     * @return The value of the block scalar.
+     * @throws IOException If the lines cannot be read.
+     */
+    private String block(final String header, final int indentation)
+        throws IOException {
+        char chomping = ' ';
+        int indent = -1;
+        for(int idx = 1; idx < header.length(); ++idx) {
+            final char indicator = header.charAt(idx);
+            if(indicator == '-' || indicator == '+') {
+                chomping = indicator;
+            } else {
+                indent = indentation + indicator - '0';
+            }
+        }
+        final List<String> lines = new ArrayList<>();
+        final String end = this.blockLines(lines, indent, indentation);
+        if(end != null) {
+            final YamlLine line = new CachedYamlLine(
+                new NoCommentsYamlLine(new RtYamlLine(end, this.number - 1))
+            );
+            if(line.trimmed().isEmpty()) {
+                this.peeked = this.nextLine();
+            } else {
+                this.peeked = line;
+            }
+        }
+        return chomp(lines, header.charAt(0) == '|', chomping);
+    }
+
+    /**
+     * Read the raw lines of a block scalar.
+     * @param lines Where to add the lines, without the block's indentation.
+     *  Blank lines are added empty.
+     * @param explicit Indentation of the block's content, -1 if it is
+     *  given by its first line.
+     * @param indentation Indentation of the line with the block's header.
+     * @return The line ending the block or null if the input ended.
+     * @throws IOException If the lines cannot be read.
+     */
+    private String blockLines(
+        final List<String> lines, final int explicit, final int indentation
+    ) throws IOException {
+        int indent = explicit;
+        String raw = this.readRaw();
+        while (raw != null) {
+            final int spaces = spaces(raw);
+            if(spaces < raw.length()) {
+                if(indent < 0 && spaces > indentation) {
+                    indent = spaces;
+                }
+                if(indent < 0 || spaces < indent) {
+                    break;
+                }
+                lines.add(raw.substring(indent));
+            } else {
+                lines.add("");
+            }
+            raw = this.readRaw();
+        }
+        return raw;
+    }
+
+    /**
+     * The line is waiting for a nested value.
+     * @param indentation Indentation of the line.
+     * @param lineNumber Number of the line.
+     */
+    private void waitNested(final int indentation, final int lineNumber) {
+        this.pending = indentation;
+        this.pendingLine = lineNumber;
+    }
+
+    /**
+     * The line waiting for a nested value has none, so it has a
+     * missing (null) scalar.
+     */
+    private void endPending() {
+        if(this.pending >= 0) {
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.SCALAR, this.pendingLine)
+            );
+            this.pending = -1;
+        }
+    }
+
+    /**
+     * Close the nodes which end before the given line.
+     * @param indentation Indentation of the line.
+     * @param line Trimmed line, without comment.
+     * @param lineNumber Number of the line.
+     */
+    private void close(
+        final int indentation, final String line, final int lineNumber
+    ) {
+        while (!this.levels.isEmpty() && this.closes(indentation, line)) {
+            this.closeLevel(lineNumber);
+        }
+    }
+
+    /**
+     * Is the given line the beginning of the nested value which is
+     * expected? A sequence can also be nested at the same indentation
+     * as its key.
+     * @param indentation Indentation of the line.
+     * @param line Trimmed line, without comment.
+     * @return True or false.
+     */
+    private boolean nests(final int indentation, final String line) {
+        final boolean nests;
+        if(this.pending < 0) {
+            nests = false;
+        } else if(indentation == this.pending) {
+            nests = isItem(line) && this.levels.peek().mapping;
+        } else {
+            nests = indentation > this.pending;
+        }
+        return nests;
+    }
+
+    /**
+     * Does the given line close the innermost open node? It does if it
+     * is indented less or if it is not an item of the open sequence.
+     * @param indentation Indentation of the line.
+     * @param line Trimmed line, without comment.
+     * @return True or false.
+     */
+    private boolean closes(final int indentation, final String line) {
+        final Level level = this.levels.peek();
+        final boolean closes;
+        if(level.indentation == indentation) {
+            closes = !level.mapping && !isItem(line);
+        } else {
+            closes = level.indentation > indentation;
+        }
+        return closes;
+    }
+
+    /**
+     * Close the innermost open node.
+     * @param lineNumber Number of the line.
+     */
+    private void closeLevel(final int lineNumber) {
+        if(this.levels.pop().mapping) {
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.END_MAPPING, lineNumber)
+            );
+        } else {
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.END_SEQUENCE, lineNumber)
+            );
+        }
+    }
+
+    /**
+     * End the open document, if any, together with its open nodes.
+     * @param lineNumber Number of the line.
+     */
+    private void endDocument(final int lineNumber) {
+        if(this.document) {
+            this.endPending();
+            while (!this.levels.isEmpty()) {
+                this.closeLevel(lineNumber);
+            }
+            this.events.add(
+                new RtYamlEvent(YamlEvent.Type.DOCUMENT_END, lineNumber)
+            );
+            this.document = false;
+        }
+    }
+
+    /**
+     * Next line with content (blank and comment lines are skipped).
+     * @return YamlLine or null if there are no more lines.
+     * @throws IOException If the input cannot be read.
+     */
+    private YamlLine nextLine() throws IOException {
+        YamlLine result = this.peeked;
+        this.peeked = null;
+        String raw = "";
+        while (result == null && raw != null) {
+            raw = this.readRaw();
+            if(raw != null) {
+                final YamlLine line = new CachedYamlLine(
+                    new NoCommentsYamlLine(
+                        new RtYamlLine(raw, this.number - 1)
+                    )
+                );
+                if(!line.trimmed().isEmpty()) {
+                    result = line;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the next line of the input, as it is.
+     * @return The line or null if there are no more lines.
+     * @throws IOException If the input cannot be read.
+     */
+    private String readRaw() throws IOException {
+        final String raw = this.source.readLine();
+        if(raw != null) {
+            this.number++;
+        }
+        return raw;
+    }
+
+    /**
+     * Is the given value the header of a block scalar: '|' or '&gt;',
+     * followed only by chomping ('-' or '+') or indentation (1-9)
+     * indicators?
+     * @param value Value, trimmed and without comment.
+     * @return True or false.
+     */
+    private static boolean isBlockHeader(final String value) {
+        final char first = value.charAt(0);
+        boolean header = (first == '|' || first == '>') && value.length() <= 3;
+        for(int idx = 1; header && idx < value.length(); ++idx) {
+            final char indicator = value.charAt(idx);
+            header = indicator == '-' || indicator == '+'
+                || indicator >= '1' && indicator <= '9';
+        }
+        return header;
+    }
+
+    /**
+     * Put together the lines of a block scalar.
+     * @param lines Lines, without the block's indentation. Blank lines
+     *  are empty.
+     * @param literal True for a literal block scalar, false for a folded
+     *  one.
+     * @param chomping Chomping indicator: '-' (strip), '+' (keep) or
+     *  ' ' (clip).
+     * @return The value of the block scalar.
+     */
+    private static String chomp(
+        final List<String> lines, final boolean literal, final char chomping
+    ) {
+        int last = lines.size();
+        while (last > 0 && lines.get(last - 1).isEmpty()) {
+            last--;
+        }
+        final StringBuilder value = new StringBuilder();
+        for(int idx = 0; idx < last; ++idx) {
+            if(idx > 0) {
+                value.append(
+                    separator(lines.get(idx - 1), lines.get(idx), literal)
+                );
+            }
+            value.append(lines.get(idx));
+        }
+        if(chomping != '-' && last > 0) {
+            value.append('\n');
+        }
+        if(chomping == '+') {
+            for(int idx = last; idx < lines.size(); ++idx) {
+                value.append('\n');
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * What separates two lines of a block scalar. In a literal one, it is
+     * the line break. In a folded one, the line break is folded into
+     * a space, unless one of the lines is blank or more indented.
+     * @param prev Previous line.
+     * @param line Line.
+     * @param literal True for a literal block scalar, false for a folded
+     *  one.
+     * @return Separator.
+     */
+    private static String separator(
+        final String prev, final String line, final boolean literal
+    ) {
+        final String separator;
+        if(literal || line.isEmpty() || line.charAt(0) == ' ') {
+            separator = "\n";
+        } else if(prev.isEmpty()) {
+            separator = "";
+        } else if(prev.charAt(0) == ' ') {
+            separator = "\n";
+        } else {
+            separator = " ";
+        }
+        return separator;
+    }
+
+    /**
+     * Number of spaces at the beginning of the given line.
+     * @param line Line.
+     * @return Integer.
+     */
+    private static int spaces(final String line) {
+        int spaces = 0;
+        while (spaces < line.length() && line.charAt(spaces) == ' ') {
+            spaces++;
+        }
+        return spaces;
+    }
+
+    /**
+     * Is the given line an item of a sequence?
+     * @param line Trimmed line, without comment.
+     * @return True or false.
+     */
+    private static boolean isItem(final String line) {
+        return "-".equals(line) || line.startsWith("- ");
+    }
+
+    /**
+     * Is the given line a pair of a mapping (key: value or complex key)?
+     * @param line Trimmed line, without comment.
+     * @return True or false.
+     */
+    private static boolean isPair(final String line) {
+        return isComplex(line, '?') || keyEnd(line) >= 0;
+    }
+
+    /**
+     * Does the given line start with the given indicator of a complex
+     * pair ('?' for the key or ':' for the value)?
+     * @param line Trimmed line, without comment.
+     * @param indicator Indicator.
+     * @return True or false.
+     */
+    private static boolean isComplex(final String line, final char indicator) {
+        return line.charAt(0) == indicator
+            && (line.length() == 1 || line.charAt(1) == ' ');
+    }
+
+    /**
+     * Position of the ':' ending the key of the given line. It is the
+     * first ':' followed by a space or by the end of the line, outside
+     * of a quoted key.
+     * @param line Trimmed line, without comment.
+     * @return Position or -1 if the line has no key.
+     */
+    private static int keyEnd(final String line) {
+        int end = -1;
+        int idx = 0;
+        final char first = line.charAt(0);
+        if(first == '"' || first == '\'') {
+            idx = line.indexOf(first, 1) + 1;
+            if(idx == 0) {
+                idx = line.length();
+            }
+        }
+        while (end < 0 && idx < line.length()) {
+            if(line.charAt(idx) == ':' && (idx + 1 == line.length()
+                || line.charAt(idx + 1) == ' ')) {
+                end = idx;
+            }
+            idx++;
+        }
+        return end;
+    }
+
+    /**
+     * Remove the quotes around the given scalar, if any.
+     * @param scalar Scalar.
+     * @return Un-escaped scalar.
+     */
+    private static String unescape(final String scalar) {
+        final String unescaped;
+        if(scalar.length() > 2 && (isQuoted(scalar, '"')
+            || isQuoted(scalar, '\''))) {
+            unescaped = scalar.substring(1, scalar.length() - 1);
+        } else {
+            unescaped = scalar;
+        }
+        return unescaped;
+    }
+
+    /**
+     * Is the given scalar between the given quotes?
+     * @param scalar Scalar.
+     * @param quote Quote character.
+     * @return True or false.
+     */
+    private static boolean isQuoted(final String scalar, final char quote) {
+        return scalar.charAt(0) == quote
+            && scalar.charAt(scalar.length() - 1) == quote;
+    }
+
+    /**
+     * An open mapping or sequence.
+     */
+    private static final class Level {
+
+        /**
+         * Is it a mapping (or a sequence)?
+         */
+        private final boolean mapping;
+
+        /**
+         * Indentation of its entries.
+         */
+        private final int indentation;
+
+        /**
+         * Ctor.
+         * @param mapping Is it a mapping (or a sequence)?
+         * @param indentation Indentation of its entries.
+         */
+        Level(final boolean mapping, final int indentation) {
+            this.mapping = mapping;
+            this.indentation = indentation;
+        }
+    }
+}
@@ -27,12 +27,11 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Implementation for {@link YamlInput}.
@@ -47,12 +46,27 @@ final class RtYamlInput implements YamlInput {
      */
     private InputStream source;
 
+    /**
+     * Pool of the read Strings, null if they are not pooled.
+     */
+    private final StringPool pool;
+
     /**
      * Ctor.
      * @param source Given source.
      */
     RtYamlInput(final InputStream source) {
+        this(source, null);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param pool Pool of the read Strings, null if they are not pooled.
+     */
+    RtYamlInput(final InputStream source, final StringPool pool) {
         this.source = source;
+        this.pool = pool;
     }
 
     @Override
@@ -60,40 +74,83 @@ final class RtYamlInput implements YamlInput {
         return new ReadYamlMapping(this.readInput());
     }
 
+    @Override
+    public YamlMapping readYamlMapping(final Collection<String> paths)
+        throws IOException {
+        return new ReadYamlMapping(
+            new LineScanner(this.readBytes()).scan(new SelectedKeys(paths))
+        );
+    }
+
     @Override
     public YamlSequence readYamlSequence() throws IOException {
         return new ReadYamlSequence(this.readInput());
     }
 
+    @Override
+    public YamlMapping readCompactYamlMapping() throws IOException {
+        return new CompactDocument(
+            this.readBytes(), CompactDocument.MAPPING
+        ).mapping();
+    }
+
+    @Override
+    public YamlSequence readCompactYamlSequence() throws IOException {
+        return new CompactDocument(
+            this.readBytes(), CompactDocument.SEQUENCE
+        ).sequence();
+    }
+
     @Override
     public YamlStream readYamlStream() throws IOException {
         return new ReadYamlStream(this.readInput());
     }
 
+    @Override
+    public YamlStream readLazyYamlStream() {
+        return new LazyYamlStream(new YamlDocuments(this.source));
+    }
+
     /**
-     * Read the input's lines.
+     * Read the input's lines. The whole input is read in a single
+     * byte buffer and each line is a slice of it (see {@link ReadYamlLine}).
+     * The input is expected to be UTF-8. It is not decoded while reading,
+     * only the text which is requested later is decoded
+     * (see {@link Utf8InputBuffer}).
      * @return All read YamlLines
      * @throws IOException If something goes wrong while reading the input.
      */
     private AllYamlLines readInput() throws IOException {
-        final List<YamlLine> lines = new ArrayList<>();
+        return new LineScanner(this.readBytes()).scan();
+    }
+
+    /**
+     * Read all the bytes of the input in a single buffer. If there is
+     * a {@link StringPool}, the text read from the buffer is pooled.
+     * @return InputBuffer of the read bytes.
+     * @throws IOException If something goes wrong while reading the input.
+     */
+    private InputBuffer readBytes() throws IOException {
+        byte[] bytes = new byte[8192];
+        int length = 0;
         try (
-            BufferedReader reader = new BufferedReader(
-                new InputStreamReader(this.source)
-            )
+            InputStream input = this.source
         ) {
-            String line;
-            int number = 0;
-            while ((line = reader.readLine()) != null) {
-                final YamlLine current = new NoCommentsYamlLine(
-                    new RtYamlLine(line, number)
-                );
-                if(!current.trimmed().isEmpty()) {
-                    lines.add(new CachedYamlLine(current));
+            int read = input.read(bytes, length, bytes.length - length);
+            while (read != -1) {
+                length = length + read;
+                if(length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
                 }
-                number++;
+                read = input.read(bytes, length, bytes.length - length);
             }
         }
-        return new AllYamlLines(lines);
+        InputBuffer buffer = new Utf8InputBuffer(
+            ByteBuffer.wrap(bytes, 0, length)
+        );
+        if(this.pool != null) {
+            buffer = new PooledInputBuffer(buffer, this.pool);
+        }
+        return buffer;
     }
 }
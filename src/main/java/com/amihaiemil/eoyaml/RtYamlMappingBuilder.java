@@ -27,12 +27,13 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * YamlMappingBuilder implementation.
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The pairs are kept in a
+ * persistent {@link HashTrie}, so adding a pair does not copy the pairs
+ * which were added before.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -43,20 +44,20 @@ final class RtYamlMappingBuilder implements YamlMappingBuilder {
     /**
      * Added pairs.
      */
-    private final Map<YamlNode, YamlNode> pairs;
+    private final HashTrie<YamlNode, YamlNode> pairs;
 
     /**
      * Default ctor.
      */
     RtYamlMappingBuilder() {
-        this(new HashMap<YamlNode, YamlNode>());
+        this(new HashTrie<YamlNode, YamlNode>());
     }
 
     /**
      * Constructor.
      * @param pairs Pairs used in building the YamlMapping.
      */
-    RtYamlMappingBuilder(final Map<YamlNode, YamlNode> pairs) {
+    RtYamlMappingBuilder(final HashTrie<YamlNode, YamlNode> pairs) {
         this.pairs = pairs;
     }
 
@@ -77,10 +78,14 @@ final class RtYamlMappingBuilder implements YamlMappingBuilder {
 
     @Override
     public YamlMappingBuilder add(final YamlNode key, final YamlNode value) {
-        final Map<YamlNode, YamlNode> withAddedPair = new HashMap<>();
-        withAddedPair.putAll(this.pairs);
-        withAddedPair.put(key, value);
-        return new RtYamlMappingBuilder(withAddedPair);
+        return new RtYamlMappingBuilder(this.pairs.with(key, value));
+    }
+
+    @Override
+    public YamlMappingBuilder addAll(
+        final Map<? extends YamlNode, ? extends YamlNode> added
+    ) {
+        return new RtYamlMappingBuilder(this.pairs.withAll(added));
     }
 
     @Override
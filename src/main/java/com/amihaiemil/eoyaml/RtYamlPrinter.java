@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Implementation for {@link YamlPrinter}. It writes to an Appendable
+ * (e.g. a Writer or a StringBuilder). The indentation prefixes are built
+ * only once for each level.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class RtYamlPrinter implements YamlPrinter {
+
+    /**
+     * Output.
+     */
+    private final Appendable out;
+
+    /**
+     * Line separator.
+     */
+    private final String newLine;
+
+    /**
+     * Indentation prefixes, by number of spaces. Built on first use.
+     */
+    private String[] prefixes;
+
+    /**
+     * Ctor.
+     * @param out Output.
+     */
+    RtYamlPrinter(final Appendable out) {
+        this.out = out;
+        this.newLine = System.lineSeparator();
+        this.prefixes = new String[16];
+    }
+
+    /**
+     * Print the given node, with the given indentation, into a String.
+     * This is how the nodes implement {@link YamlNode#indent(int)}.
+     * @param node YamlNode to print.
+     * @param indentation Number of preceding spaces of each line.
+     * @return Printed node.
+     */
+    static String indent(final YamlNode node, final int indentation) {
+        final StringBuilder printed = new StringBuilder();
+        try {
+            new RtYamlPrinter(printed).print(node, indentation);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Could not print the YAML node in a StringBuilder", ex
+            );
+        }
+        return printed.toString();
+    }
+
+    @Override
+    public void print(final YamlNode node) throws IOException {
+        this.print(node, 0);
+        if(this.out instanceof Flushable) {
+            ((Flushable) this.out).flush();
+        }
+    }
+
+    /**
+     * Print the given node with the given indentation. The last line does
+     * not end with a new line.
+     * @param node YamlNode to print.
+     * @param indentation Number of preceding spaces of each line.
+     * @throws IOException If the output cannot be written.
+     */
+    void print(final YamlNode node, final int indentation)
+        throws IOException {
+        if(indentation < 0) {
+            throw new IllegalArgumentException(
+                "Indentation level has to be >=0"
+            );
+        }
+        if(node instanceof YamlMapping) {
+            this.mapping((YamlMapping) node, indentation);
+        } else if(node instanceof YamlStream) {
+            this.stream((YamlStream) node, indentation);
+        } else if(node instanceof YamlSequence) {
+            this.sequence((YamlSequence) node, indentation);
+        } else {
+            this.out.append(node.indent(indentation));
+        }
+    }
+
+    /**
+     * Print a YamlMapping.
+     * @param mapping YamlMapping.
+     * @param indentation Number of preceding spaces of each line.
+     * @throws IOException If the output cannot be written.
+     */
+    private void mapping(final YamlMapping mapping, final int indentation)
+        throws IOException {
+        final String prefix = this.prefix(indentation);
+        boolean first = true;
+        for(final YamlNode key : mapping.keys()) {
+            if(!first) {
+                this.out.append(this.newLine);
+            }
+            first = false;
+            this.out.append(prefix);
+            final YamlNode value = mapping.value(key);
+            if(key instanceof Scalar) {
+                this.out.append(key.toString()).append(": ");
+                if (value instanceof Scalar) {
+                    this.out.append(value.toString());
+                } else {
+                    this.out.append(this.newLine);
+                    this.print(value, indentation + 2);
+                }
+            } else {
+                this.complex(key, value, indentation);
+            }
+        }
+    }
+
+    /**
+     * Print a complex key (a mapping or a sequence) and its value.
+     * @param key Complex key.
+     * @param value Value.
+     * @param indentation Number of preceding spaces of each line.
+     * @throws IOException If the output cannot be written.
+     */
+    private void complex(
+        final YamlNode key, final YamlNode value, final int indentation
+    ) throws IOException {
+        this.out.append('?').append(this.newLine);
+        this.print(key, indentation + 2);
+        this.out.append(this.newLine)
+            .append(this.prefix(indentation)).append(':');
+        if(value instanceof Scalar) {
+            this.out.append(' ').append(String.valueOf(value));
+        } else {
+            this.out.append(this.newLine);
+            this.print(value, indentation + 2);
+        }
+    }
+
+    /**
+     * Print a YamlSequence.
+     * @param sequence YamlSequence.
+     * @param indentation Number of preceding spaces of each line.
+     * @throws IOException If the output cannot be written.
+     */
+    private void sequence(final YamlSequence sequence, final int indentation)
+        throws IOException {
+        final String prefix = this.prefix(indentation);
+        boolean first = true;
+        for(final YamlNode node : sequence.values()) {
+            if(!first) {
+                this.out.append(this.newLine);
+            }
+            first = false;
+            this.out.append(prefix).append("- ");
+            if (node instanceof Scalar) {
+                this.out.append(node.toString());
+            } else {
+                this.out.append(this.newLine);
+                this.print(node, indentation + 2);
+            }
+        }
+    }
+
+    /**
+     * Print a YamlStream.
+     * @param stream YamlStream.
+     * @param indentation Number of preceding spaces of each line.
+     * @throws IOException If the output cannot be written.
+     */
+    private void stream(final YamlStream stream, final int indentation)
+        throws IOException {
+        final String prefix = this.prefix(indentation);
+        final Collection<YamlNode> documents = stream.values();
+        if(documents.isEmpty()) {
+            this.out.append(prefix).append("---")
+                .append(this.newLine)
+                .append(prefix).append("...");
+        } else {
+            boolean first = true;
+            for(final YamlNode document : documents) {
+                if(!first) {
+                    this.out.append(this.newLine);
+                }
+                first = false;
+                this.out.append(prefix).append("---").append(this.newLine);
+                this.print(document, indentation + 2);
+            }
+        }
+    }
+
+    /**
+     * The indentation prefix with the given number of spaces.
+     * @param indentation Number of spaces.
+     * @return String of spaces.
+     */
+    private String prefix(final int indentation) {
+        if(indentation >= this.prefixes.length) {
+            this.prefixes = Arrays.copyOf(
+                this.prefixes,
+                Math.max(indentation + 1, this.prefixes.length * 2)
+            );
+        }
+        if(this.prefixes[indentation] == null) {
+            final char[] spaces = new char[indentation];
+            Arrays.fill(spaces, ' ');
+            this.prefixes[indentation] = new String(spaces);
+        }
+        return this.prefixes[indentation];
+    }
+}
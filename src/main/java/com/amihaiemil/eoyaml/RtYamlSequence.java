@@ -90,6 +90,15 @@ final class RtYamlSequence extends ComparableYamlSequence {
         return found;
     }
 
+    @Override
+    public YamlNode value(final int index) {
+        YamlNode found = null;
+        if(index >= 0 && index < this.nodes.size()) {
+            found = this.nodes.get(index);
+        }
+        return found;
+    }
+
     @Override
     public Collection<YamlNode> values() {
         final List<YamlNode> children = new LinkedList<>();
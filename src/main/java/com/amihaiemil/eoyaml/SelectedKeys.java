@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keys selected when reading a YamlMapping, given as paths of keys
+ * separated by dots (e.g. "spec.replicas"). It is used by the
+ * {@link LineScanner} to decide, line by line, which lines should be kept.
+ * The paths are matched one key at a time, like {@link YamlPath} does, so
+ * a key containing a dot (e.g. "a.b: 1") is not selected by the path
+ * "a.b", which means key "b" under key "a".
+ * The lines of a selected key and all the lines nested under it are kept.
+ * The lines of the keys leading to a selected key are kept too, but not
+ * their other nested lines. If nothing selected is found under such a key
+ * (e.g. the selected key is missing or its parent is a sequence), the
+ * key's line is dropped at the end of the scan (see
+ * {@link #dropUnused(List)}), so it is not read as a key without value.
+ * Any other subtree is skipped: only its first
+ * line is looked at, the nested lines are skipped based on their
+ * indentation, so they are never read as YamlLines.<br><br>
+ * This class keeps the state of the scan, so an instance can be used
+ * for only one scan. The keys of sequences' elements, complex keys
+ * and their nested lines are not selectable, they are always skipped.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class SelectedKeys {
+
+    /**
+     * Paths of the selected keys, as lists of keys.
+     */
+    private final Set<List<String>> selected;
+
+    /**
+     * Paths of the keys leading to the selected keys, as lists of keys.
+     */
+    private final Set<List<String>> ancestors;
+
+    /**
+     * Indentations of the kept keys which lead to a selected key
+     * and which may still have nested lines.
+     */
+    private final Deque<Integer> indentations;
+
+    /**
+     * The kept keys which lead to a selected key and which may still
+     * have nested lines.
+     */
+    private final Deque<String> keys;
+
+    /**
+     * The lines of the kept keys which lead to a selected key and which
+     * may still have nested lines.
+     */
+    private final Deque<YamlLine> lines;
+
+    /**
+     * How many of the kept keys leading to a selected key (counting from
+     * the outermost one) have a selected key found under them.
+     */
+    private int found;
+
+    /**
+     * Lines of the keys leading to a selected key, under which no
+     * selected key was found.
+     */
+    private final List<YamlLine> unused;
+
+    /**
+     * Indentation of the line whose nested lines are all kept or all
+     * skipped, -1 if there is no such line.
+     */
+    private int subtree;
+
+    /**
+     * Are the lines nested under the subtree's line kept?
+     */
+    private boolean inside;
+
+    /**
+     * Ctor.
+     * @param paths Paths of the selected keys (e.g. "spec.replicas").
+     */
+    SelectedKeys(final Collection<String> paths) {
+        this.selected = new HashSet<>();
+        this.ancestors = new HashSet<>();
+        for(final String path : paths) {
+            final List<String> steps = Arrays.asList(path.split("\\.", -1));
+            this.selected.add(steps);
+            for(int size = 1; size < steps.size(); ++size) {
+                this.ancestors.add(steps.subList(0, size));
+            }
+        }
+        this.indentations = new ArrayDeque<>();
+        this.keys = new ArrayDeque<>();
+        this.lines = new ArrayDeque<>();
+        this.unused = new ArrayList<>();
+        this.subtree = -1;
+    }
+
+    /**
+     * Is the line with the given indentation nested under a line
+     * whose nested lines are all kept or all skipped?
+     * Then {@link #keepsNested()} says whether it is kept, without reading
+     * the line. Otherwise, the line should be read and given to
+     * {@link #keeps(YamlLine)}.
+     * @param indentation Indentation of the next line.
+     * @return True or false.
+     */
+    boolean nested(final int indentation) {
+        final boolean nested = this.subtree >= 0
+            && indentation > this.subtree;
+        if(!nested) {
+            this.subtree = -1;
+        }
+        return nested;
+    }
+
+    /**
+     * Are the lines nested under the current subtree kept?
+     * @return True if they are nested under a selected key, false if they
+     *  should be skipped.
+     */
+    boolean keepsNested() {
+        return this.inside;
+    }
+
+    /**
+     * Should the given line be kept? Its nested lines are kept or skipped
+     * together with it, unless it leads to a selected key.
+     * @param line Line which is not nested under a kept or skipped line.
+     * @return True or false.
+     */
+    boolean keeps(final YamlLine line) {
+        final int indentation = line.indentation();
+        while (!this.indentations.isEmpty()
+            && this.indentations.peekLast() >= indentation) {
+            this.removeLast();
+        }
+        boolean keeps = true;
+        if(!line.kind().ignored()) {
+            final String key = SelectedKeys.key(line.trimmed());
+            final List<String> path = this.path(key);
+            if(key != null && this.ancestors.contains(path)
+                && !this.selected.contains(path)) {
+                this.indentations.addLast(indentation);
+                this.keys.addLast(key);
+                this.lines.addLast(line);
+            } else {
+                keeps = key != null && this.selected.contains(path);
+                this.subtree = indentation;
+                this.inside = keeps;
+                if(keeps) {
+                    this.found = this.keys.size();
+                }
+            }
+        }
+        return keeps;
+    }
+
+    /**
+     * Remove, from the given kept lines, the lines of the keys leading
+     * to a selected key, under which no selected key was found.
+     * It should be called once the scan is over.
+     * @param kept Kept lines.
+     */
+    void dropUnused(final List<YamlLine> kept) {
+        while (!this.keys.isEmpty()) {
+            this.removeLast();
+        }
+        if(!this.unused.isEmpty()) {
+            final Set<YamlLine> drop = Collections.newSetFromMap(
+                new IdentityHashMap<>()
+            );
+            drop.addAll(this.unused);
+            kept.removeIf(drop::contains);
+        }
+    }
+
+    /**
+     * Remove the innermost kept key leading to a selected key, since
+     * it cannot have any more nested lines.
+     */
+    private void removeLast() {
+        this.indentations.removeLast();
+        this.keys.removeLast();
+        final YamlLine line = this.lines.removeLast();
+        if(this.found > this.keys.size()) {
+            this.found = this.keys.size();
+        } else {
+            this.unused.add(line);
+        }
+    }
+
+    /**
+     * Path of the given key, under the currently kept keys.
+     * @param key Key.
+     * @return Path of the key, as a list of keys.
+     */
+    private List<String> path(final String key) {
+        final List<String> path = new ArrayList<>(this.keys.size() + 1);
+        path.addAll(this.keys);
+        path.add(key);
+        return path;
+    }
+
+    /**
+     * The key of a mapping's line.
+     * @param trimmed Trimmed line.
+     * @return The key or null if the line is not a plain key.
+     */
+    private static String key(final String trimmed) {
+        final int colon = trimmed.indexOf(':');
+        String key = null;
+        if(colon > 0 && !trimmed.startsWith("-")
+            && !trimmed.startsWith("?")) {
+            key = trimmed.substring(0, colon).trim();
+        }
+        return key;
+    }
+}
@@ -107,6 +107,22 @@ public final class StrictYamlSequence extends ComparableYamlSequence {
         return found;
     }
 
+    /**
+     * Get the YamlNode from the given index.
+     * @param index Integer index.
+     * @return YamlNode
+     */
+    @Override
+    public YamlNode value(final int index) {
+        YamlNode found = this.decorated.value(index);
+        if (found == null) {
+            throw new YamlNodeNotFoundException(
+                "No YamlNode found at index " + index
+            );
+        }
+        return found;
+    }
+
     @Override
     public String toString() {
         return this.decorated.toString();
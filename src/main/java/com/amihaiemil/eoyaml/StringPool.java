@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of Strings, used to deduplicate the text read from some
+ * {@link YamlInput}. When the same keys and values repeat many times
+ * in the input (e.g. "apiVersion: v1" in a stream of Kubernetes
+ * manifests), the read lines share the same String instead of holding
+ * a copy each.<br><br>
+ * The pool is bounded: once it holds the maximum number of Strings, new
+ * Strings are no longer added to it, they are just returned. It is
+ * thread-safe, so it can be shared by more inputs, which are read at the
+ * same time. The statistics of the pool (hits and misses) show how many
+ * copies were avoided.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class StringPool {
+
+    /**
+     * The pooled Strings.
+     */
+    private final Map<String, String> strings;
+
+    /**
+     * Maximum number of pooled Strings.
+     */
+    private final int capacity;
+
+    /**
+     * Number of Strings which were found in the pool.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Number of Strings which were not found in the pool.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Ctor. The pool holds at most 65536 Strings.
+     */
+    public StringPool() {
+        this(65_536);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Maximum number of pooled Strings.
+     */
+    public StringPool(final int capacity) {
+        this.strings = new ConcurrentHashMap<>();
+        this.capacity = capacity;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Get the pooled String equal to the given one. If there is none,
+     * the given String is pooled, unless the pool is full.
+     * @param value String.
+     * @return The pooled String or the given one.
+     */
+    public String intern(final String value) {
+        String pooled = this.strings.get(value);
+        if(pooled == null) {
+            this.misses.increment();
+            pooled = value;
+            if(this.strings.size() < this.capacity) {
+                final String previous = this.strings.putIfAbsent(value, value);
+                if(previous != null) {
+                    pooled = previous;
+                }
+            }
+        } else {
+            this.hits.increment();
+        }
+        return pooled;
+    }
+
+    /**
+     * Number of Strings which were found in the pool, so their copies
+     * were not kept.
+     * @return Number of hits.
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Number of Strings which were not found in the pool.
+     * @return Number of misses.
+     */
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Number of pooled Strings.
+     * @return Size of this pool.
+     */
+    public int size() {
+        return this.strings.size();
+    }
+
+    @Override
+    public String toString() {
+        return "StringPool: " + this.size() + " strings, "
+            + this.hits() + " hits, " + this.misses() + " misses";
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * InputBuffer of UTF-8 bytes. The bytes are decoded only for the
+ * text which is requested. The bytes can be in memory or in a memory
+ * mapped file.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class Utf8InputBuffer implements InputBuffer {
+
+    /**
+     * The bytes.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Ctor.
+     * @param bytes The bytes, from position 0 until the buffer's limit.
+     */
+    Utf8InputBuffer(final ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+        return this.bytes.limit();
+    }
+
+    @Override
+    public int unit(final int position) {
+        return this.bytes.get(position) & 0xFF;
+    }
+
+    @Override
+    public String text(final int start, final int end) {
+        final byte[] text = new byte[end - start];
+        final ByteBuffer slice = this.bytes.duplicate();
+        slice.position(start);
+        slice.get(text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+}
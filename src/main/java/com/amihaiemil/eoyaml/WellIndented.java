@@ -61,6 +61,10 @@ import java.util.List;
  * );//Iterate over the lines which are at the same indentation level
  * </pre>
  *
+ * The read YAML nodes do not use this class directly, they rely on
+ * {@link AllYamlLines#wellIndented()}, which verifies each YAML document
+ * only once.
+ *
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 3.1.2
@@ -111,7 +115,8 @@ final class WellIndented implements YamlLines {
                         );
                     }
                 } else {
-                    if(!"---".equals(previous.trimmed()) && lineIndent > prevIndent) {
+                    if((previous.flags() & LineKind.START) == 0
+                        && lineIndent > prevIndent) {
                         throw new IllegalStateException(
                             "Indentation of line " + (line.number() +1) + " is "
                             + "greater than the one of line "
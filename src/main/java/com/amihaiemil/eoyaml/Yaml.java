@@ -27,11 +27,16 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 /**
  * Yaml.
@@ -72,7 +77,7 @@ public final class Yaml {
     }
 
     /**
-     * Create a {@link YamlInput} from a File.
+     * Create a {@link YamlInput} from a File. The file is read as UTF-8.
      * @return YamlInput, reader of Yaml.
      * @param input File to read from.
      * @throws FileNotFoundException If the file is not found.
@@ -82,6 +87,18 @@ public final class Yaml {
         return Yaml.createYamlInput(new FileInputStream(input));
     }
 
+    /**
+     * Create a {@link YamlInput} from a UTF-8 file, given its Path.
+     * The file is mapped in memory when it is read, instead of being
+     * copied on the heap, so it is suitable for big files
+     * (up to 2GB).
+     * @param input Path of the file to read from.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(final Path input) {
+        return new MappedYamlInput(input);
+    }
+
     /**
      * Create a {@link YamlInput} from a String.
      * @param input String to read from.
@@ -89,12 +106,13 @@ public final class Yaml {
      */
     public static YamlInput createYamlInput(final String input) {
         return Yaml.createYamlInput(
-            new ByteArrayInputStream(input.getBytes())
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))
         );
     }
 
     /**
-     * Create a {@link YamlInput} from an InputStream.
+     * Create a {@link YamlInput} from an InputStream. The input is read
+     * as UTF-8.
      * @param input InputStream to read from.
      * @return YamlInput, reader of Yaml.
      */
@@ -102,4 +120,55 @@ public final class Yaml {
         return new RtYamlInput(input);
     }
 
+    /**
+     * Create a {@link YamlInput} from an InputStream, deduplicating the
+     * read text with the given {@link StringPool}. The same pool can be
+     * shared by more inputs. The input is read as UTF-8.
+     * @param input InputStream to read from.
+     * @param pool Pool of Strings.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(
+        final InputStream input, final StringPool pool
+    ) {
+        return new RtYamlInput(input, pool);
+    }
+
+    /**
+     * Create a {@link YamlPrinter} which writes to the given Appendable
+     * (e.g. a Writer or a StringBuilder). If it is Flushable, it is
+     * flushed after each printed node.
+     * @param output Appendable to write to.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlPrinter(final Appendable output) {
+        return new RtYamlPrinter(output);
+    }
+
+    /**
+     * Create a {@link YamlPrinter} which writes to the given OutputStream,
+     * as UTF-8. The output is buffered and flushed after each printed node.
+     * @param output OutputStream to write to.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlPrinter(final OutputStream output) {
+        return new RtYamlPrinter(
+            new BufferedWriter(
+                new OutputStreamWriter(output, StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * Create a {@link YamlEventReader} from an InputStream. The input is
+     * read as UTF-8, one line at a time, as the events are requested.
+     * @param input InputStream to read from.
+     * @return YamlEventReader, pull reader of Yaml events.
+     */
+    public static YamlEventReader createYamlEventReader(
+        final InputStream input
+    ) {
+        return new RtYamlEventReader(input);
+    }
+
 }
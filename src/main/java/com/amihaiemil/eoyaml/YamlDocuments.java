@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the documents of a YAML Stream, reading them from the
+ * input one at a time. Only the bytes of the current document are kept
+ * in memory, so the memory needed is bounded by the biggest document,
+ * not by the size of the input.<br><br>
+ * The documents are split the same way as in {@link ReadYamlStream}:
+ * a document starts with a Start Marker (---) and ends at the next
+ * Start Marker, at an End Marker (...) or at the end of the input.
+ * The lines outside of any document (e.g. before the first Start Marker)
+ * are skipped. The input is closed once all of it is read.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+final class YamlDocuments implements Iterator<YamlNode> {
+
+    /**
+     * UTF-8 input.
+     */
+    private final InputStream source;
+
+    /**
+     * Chunk of the input which is being read.
+     */
+    private final byte[] chunk;
+
+    /**
+     * Position of the next byte in the chunk.
+     */
+    private int position;
+
+    /**
+     * Number of bytes in the chunk.
+     */
+    private int limit;
+
+    /**
+     * Bytes of the document which is being read.
+     */
+    private byte[] document;
+
+    /**
+     * Number of bytes of the document which is being read.
+     */
+    private int length;
+
+    /**
+     * Number of lines read so far.
+     */
+    private int number;
+
+    /**
+     * Was the previous line terminated by a '\r'? If so, a following
+     * '\n' is part of the same terminator.
+     */
+    private boolean carriage;
+
+    /**
+     * Was the document which is being read opened by a Start Marker?
+     */
+    private boolean open;
+
+    /**
+     * Next document, read ahead by {@link #hasNext()}.
+     */
+    private YamlNode next;
+
+    /**
+     * Was the whole input read?
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param source UTF-8 input.
+     */
+    YamlDocuments(final InputStream source) {
+        this.source = source;
+        this.chunk = new byte[8192];
+        this.document = new byte[8192];
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (this.next == null && !this.finished) {
+                this.readDocument();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public YamlNode next() {
+        if(!this.hasNext()) {
+            throw new NoSuchElementException("There are no more documents.");
+        }
+        final YamlNode node = this.next;
+        this.next = null;
+        return node;
+    }
+
+    /**
+     * Read the lines of the next document, until a marker or the end of
+     * the input. If the document was opened by a Start Marker and it has
+     * any content (lines other than blank lines, comments or directives),
+     * it becomes the next one.
+     * @throws IOException If the input cannot be read.
+     */
+    private void readDocument() throws IOException {
+        this.length = 0;
+        final int first = this.number;
+        final boolean opened = this.open;
+        boolean content = false;
+        int start = this.readLine();
+        while (start >= 0 && !this.isMarker(start)) {
+            content = content || this.hasContent(start);
+            start = this.readLine();
+        }
+        if(start < 0) {
+            this.finished = true;
+            this.open = false;
+            this.source.close();
+        } else {
+            this.open = this.isStartMarker(start);
+            this.length = start;
+        }
+        if(opened && content) {
+            final AllYamlLines lines = new LineScanner(
+                new Utf8InputBuffer(
+                    ByteBuffer.wrap(Arrays.copyOf(this.document, this.length))
+                ),
+                first
+            ).scan();
+            this.next = lines.toYamlNode(new RtYamlLine("---", first - 1));
+        }
+    }
+
+    /**
+     * Read the next line (with its terminator) at the end of the document.
+     * @return Position where the line starts in the document or -1 if
+     *  there are no more lines.
+     * @throws IOException If the input cannot be read.
+     */
+    private int readLine() throws IOException {
+        int current = this.read();
+        if(this.carriage && current == '\n') {
+            current = this.read();
+        }
+        final int start = this.length;
+        while (current != -1 && current != '\n' && current != '\r') {
+            this.append(current);
+            current = this.read();
+        }
+        int result = start;
+        if(current == -1 && this.length == start) {
+            result = -1;
+        } else {
+            if(current != -1) {
+                this.append(current);
+            }
+            this.carriage = current == '\r';
+            this.number++;
+        }
+        return result;
+    }
+
+    /**
+     * Is the line starting at the given position a Start Marker (---) or
+     * an End Marker (...)? The marker can be followed by a comment.
+     * @param start Position where the line starts in the document.
+     * @return True or false.
+     */
+    private boolean isMarker(final int start) {
+        int idx = start;
+        while (idx < this.length && this.document[idx] == ' ') {
+            idx++;
+        }
+        boolean marker = this.repeats(idx, '-') || this.repeats(idx, '.');
+        idx = idx + 3;
+        while (marker && idx < this.length && this.document[idx] != '#') {
+            marker = this.document[idx] <= ' ';
+            idx++;
+        }
+        return marker;
+    }
+
+    /**
+     * Is the marker line starting at the given position a Start
+     * Marker (---)?
+     * @param start Position where the marker line starts in the document.
+     * @return True or false.
+     */
+    private boolean isStartMarker(final int start) {
+        int idx = start;
+        while (idx < this.length && this.document[idx] == ' ') {
+            idx++;
+        }
+        return this.repeats(idx, '-');
+    }
+
+    /**
+     * Does the line starting at the given position have any content? It
+     * does not if it is blank, a comment or a directive.
+     * @param start Position where the line starts in the document.
+     * @return True or false.
+     */
+    private boolean hasContent(final int start) {
+        int idx = start;
+        while (idx < this.length && this.document[idx] <= ' ') {
+            idx++;
+        }
+        return idx < this.length && this.document[idx] != '#'
+            && this.document[idx] != '%';
+    }
+
+    /**
+     * Does the given character repeat 3 times, starting with the
+     * given position?
+     * @param start Position in the document.
+     * @param character Character.
+     * @return True or false.
+     */
+    private boolean repeats(final int start, final char character) {
+        boolean repeats = start + 3 <= this.length;
+        for(int idx = start; repeats && idx < start + 3; ++idx) {
+            repeats = this.document[idx] == character;
+        }
+        return repeats;
+    }
+
+    /**
+     * Append a byte to the document.
+     * @param current The byte.
+     */
+    private void append(final int current) {
+        if(this.length == this.document.length) {
+            this.document = Arrays.copyOf(
+                this.document, this.document.length * 2
+            );
+        }
+        this.document[this.length] = (byte) current;
+        this.length++;
+    }
+
+    /**
+     * Read the next byte of the input.
+     * @return The byte or -1 if the end of the input is reached.
+     * @throws IOException If the input cannot be read.
+     */
+    private int read() throws IOException {
+        if(this.position >= this.limit) {
+            this.limit = this.source.read(this.chunk);
+            this.position = 0;
+        }
+        int result = -1;
+        if(this.position < this.limit) {
+            result = this.chunk[this.position] & 0xFF;
+            this.position++;
+        }
+        return result;
+    }
+}
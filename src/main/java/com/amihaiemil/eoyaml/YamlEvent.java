@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Event read by a {@link YamlEventReader}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public interface YamlEvent {
+
+    /**
+     * Type of this event.
+     * @return Type.
+     */
+    Type type();
+
+    /**
+     * Value of this event. It is the key, for {@link Type#KEY}, or the
+     * un-escaped scalar, for {@link Type#SCALAR}. It is null for any
+     * other event, for a complex key (the key's own events follow) and
+     * for a missing scalar (e.g. "key:" with nothing under it).
+     * @return String value or null.
+     */
+    String value();
+
+    /**
+     * Number of the line where this event was read, starting from 1.
+     * @return Integer.
+     */
+    int line();
+
+    /**
+     * Pass this event to the right method of the given visitor.
+     * @param visitor YamlEventVisitor.
+     */
+    void accept(YamlEventVisitor visitor);
+
+    /**
+     * Types of events.
+     */
+    enum Type {
+        /**
+         * Start of a document.
+         */
+        DOCUMENT_START,
+        /**
+         * End of a document.
+         */
+        DOCUMENT_END,
+        /**
+         * Start of a mapping.
+         */
+        START_MAPPING,
+        /**
+         * End of a mapping.
+         */
+        END_MAPPING,
+        /**
+         * Start of a sequence.
+         */
+        START_SEQUENCE,
+        /**
+         * End of a sequence.
+         */
+        END_SEQUENCE,
+        /**
+         * Key of a mapping. Its value follows.
+         */
+        KEY,
+        /**
+         * Scalar.
+         */
+        SCALAR
+    }
+}
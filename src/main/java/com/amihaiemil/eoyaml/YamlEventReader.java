@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull reader of YAML events. As opposed to {@link YamlInput}, it does not
+ * read the whole input in memory: it reads one line at a time, only when
+ * the next event is requested, so it can read inputs of any size.<br><br>
+ * Example:
+ * <pre>
+ *   try (YamlEventReader reader = Yaml.createYamlEventReader(input)) {
+ *       while (reader.hasNext()) {
+ *           final YamlEvent event = reader.next();
+ *           ...
+ *       }
+ *   }
+ * </pre>
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public interface YamlEventReader extends Closeable {
+
+    /**
+     * Are there more events?
+     * @return True or false.
+     * @throws IOException If the input cannot be read.
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Read the next event.
+     * @return YamlEvent.
+     * @throws IOException If the input cannot be read.
+     * @throws java.util.NoSuchElementException If there are no more events.
+     */
+    YamlEvent next() throws IOException;
+
+    /**
+     * Push all the remaining events to the given visitor.
+     * @param visitor YamlEventVisitor.
+     * @throws IOException If the input cannot be read.
+     */
+    default void accept(final YamlEventVisitor visitor) throws IOException {
+        while (this.hasNext()) {
+            this.next().accept(visitor);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Visitor of the events read by a {@link YamlEventReader}
+ * (see {@link YamlEventReader#accept(YamlEventVisitor)}). All the methods
+ * do nothing by default, so implementations only override the ones
+ * they are interested in.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public interface YamlEventVisitor {
+
+    /**
+     * A document starts.
+     * @param line Number of the line, starting from 1.
+     */
+    default void documentStart(final int line) {
+    }
+
+    /**
+     * A document ends.
+     * @param line Number of the line, starting from 1.
+     */
+    default void documentEnd(final int line) {
+    }
+
+    /**
+     * A mapping starts.
+     * @param line Number of the line, starting from 1.
+     */
+    default void startMapping(final int line) {
+    }
+
+    /**
+     * A mapping ends.
+     * @param line Number of the line, starting from 1.
+     */
+    default void endMapping(final int line) {
+    }
+
+    /**
+     * A sequence starts.
+     * @param line Number of the line, starting from 1.
+     */
+    default void startSequence(final int line) {
+    }
+
+    /**
+     * A sequence ends.
+     * @param line Number of the line, starting from 1.
+     */
+    default void endSequence(final int line) {
+    }
+
+    /**
+     * Key of a mapping.
+     * @param key The key, null if it is a complex key.
+     * @param line Number of the line, starting from 1.
+     */
+    default void key(final String key, final int line) {
+    }
+
+    /**
+     * A scalar.
+     * @param value The un-escaped value, null if the scalar is missing.
+     * @param line Number of the line, starting from 1.
+     */
+    default void scalar(final String value, final int line) {
+    }
+}
@@ -28,6 +28,7 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * Yaml input.
@@ -44,6 +45,24 @@ public interface YamlInput {
      */
     YamlMapping readYamlMapping() throws IOException;
 
+    /**
+     * Read the given input as a Yaml mapping, keeping only the selected
+     * keys. The keys are given as paths of keys separated by dots
+     * (e.g. "spec.replicas" selects the key "replicas" of the mapping
+     * "spec"). A selected key is read with everything under it. The other
+     * keys are skipped while reading, so their values are never read.
+     * Use it when only a few keys are needed from a big input.<br><br>
+     * By default, it reads the whole input
+     * (see {@link #readYamlMapping()}).
+     * @param paths Paths of the selected keys.
+     * @return Read YamlMapping.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlMapping readYamlMapping(final Collection<String> paths)
+        throws IOException {
+        return this.readYamlMapping();
+    }
+
     /**
      * Read the given input as a Yaml sequence.
      * @return Read YamlSequence.
@@ -51,6 +70,35 @@ public interface YamlInput {
      */
     YamlSequence readYamlSequence() throws IOException;
 
+    /**
+     * Read the given input as a compact Yaml mapping. The whole document
+     * is read in a few arrays of ints over the bytes of the input, instead
+     * of a graph of objects, so it takes much less memory when it is
+     * retained. The YamlNodes are lightweight views, created only when
+     * they are accessed.<br><br>
+     * Only block mappings with plain keys, block sequences and scalars on
+     * the same line as their key or dash are supported.<br><br>
+     * By default, it reads the input as usual
+     * (see {@link #readYamlMapping()}).
+     * @return Read YamlMapping.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlMapping readCompactYamlMapping() throws IOException {
+        return this.readYamlMapping();
+    }
+
+    /**
+     * Read the given input as a compact Yaml sequence
+     * (see {@link #readCompactYamlMapping()}).<br><br>
+     * By default, it reads the input as usual
+     * (see {@link #readYamlSequence()}).
+     * @return Read YamlSequence.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlSequence readCompactYamlSequence() throws IOException {
+        return this.readYamlSequence();
+    }
+
     /**
      * Read the given input as a Yaml stream.
      * @return Read YamlStream.
@@ -58,4 +106,21 @@ public interface YamlInput {
      */
     YamlStream readYamlStream() throws IOException;
 
+    /**
+     * Read the given input as a Yaml stream, lazily: the documents are
+     * read one at a time, as they are consumed, and each of them is
+     * discarded once the consumer moves on. The memory needed is bounded
+     * by the biggest document, not by the size of the input. The
+     * documents can be consumed only once. They are split the same way
+     * as by {@link #readYamlStream()}: each document starts with a Start
+     * Marker (---) and the lines outside of any document (e.g. before
+     * the first Start Marker) are skipped.<br><br>
+     * By default, it reads the whole input (see {@link #readYamlStream()}).
+     * @return Read YamlStream.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlStream readLazyYamlStream() throws IOException {
+        return this.readYamlStream();
+    }
+
 }
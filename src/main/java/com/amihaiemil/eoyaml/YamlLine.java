@@ -61,6 +61,23 @@ interface YamlLine extends Comparable<YamlLine> {
      */
     boolean requireNestedIndentation();
 
+    /**
+     * The kind of this line (e.g. a key, a sequence element or a marker).
+     * @return LineKind.
+     */
+    default LineKind kind() {
+        return LineKind.kindOf(this.trimmed());
+    }
+
+    /**
+     * The flags of this line (see {@link LineKind#NESTED},
+     * {@link LineKind#START} and {@link LineKind#BARE}).
+     * @return Flags.
+     */
+    default int flags() {
+        return LineKind.flags(this.trimmed());
+    }
+
     /**
      * YamlLine null object.
      */
@@ -72,18 +72,16 @@ interface YamlLines extends Iterable<YamlLine> {
     AllYamlLines nested(final int after);
 
     /**
-     * Get a certain YamlLine.
+     * Get a certain YamlLine, by its number.
      * @param number Number of the line.
-     * @return YamlLine or throws {@link IndexOutOfBoundsException}.
+     * @return YamlLine or throws {@link IllegalArgumentException}.
      */
     default YamlLine line(final int number) {
         final Collection<YamlLine> lines = this.lines();
-        int index = 0;
         for(final YamlLine line : lines){
-            if(index == number) {
+            if(line.number() == number) {
                 return line;
             }
-            index++;
         }
         throw new IllegalArgumentException(
             "Couldn't find line " + number
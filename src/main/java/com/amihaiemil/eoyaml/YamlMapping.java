@@ -108,60 +108,15 @@ public interface YamlMapping extends YamlNode {
     /**
      * Indent this YamlMapping. This is a default method since indentation
      * logic should be identical for any kind of YamlMapping, regardless of
-     * its implementation.
+     * its implementation. The whole mapping is printed in a single pass
+     * (see {@link YamlPrinter}).
      * @param indentation Indentation to start with. Usually, it's 0, since we
      *  don't want to have spaces at the beginning. But in the case of nested
      *  YamlNodes, this value may be greater than 0.
      * @return String indented YamlMapping, by the specified indentation.
      */
     default String indent(final int indentation) {
-        if(indentation < 0) {
-            throw new IllegalArgumentException(
-                "Indentation level has to be >=0"
-            );
-        }
-        final String newLine = System.lineSeparator();
-        final StringBuilder print = new StringBuilder();
-        int spaces = indentation;
-        final StringBuilder indent = new StringBuilder();
-        while (spaces > 0) {
-            indent.append(" ");
-            spaces--;
-        }
-        for(final YamlNode key : this.keys()) {
-            print.append(indent);
-            final YamlNode value = this.value(key);
-            if(key instanceof Scalar) {
-                print.append(key.toString()).append(": ");
-                if (value instanceof Scalar) {
-                    print.append(value.toString()).append(newLine);
-                } else  {
-                    print
-                        .append(newLine)
-                        .append(value.indent(indentation + 2))
-                        .append(newLine);
-                }
-            } else {
-                print
-                    .append("?").append(newLine)
-                    .append(key.indent(indentation + 2)).append(newLine)
-                    .append(indent).append(":");
-                if(value instanceof Scalar) {
-                    print
-                        .append(" ").append(value);
-                } else {
-                    print
-                        .append(newLine)
-                        .append(value.indent(indentation + 2));
-                }
-                print.append(newLine);
-            }
-        }
-        String printed = print.toString();
-        if(printed.length() > 0) {
-            printed = printed.substring(0, printed.length() - 1);
-        }
-        return printed;
+        return RtYamlPrinter.indent(this, indentation);
     }
 
     /**
@@ -195,9 +150,11 @@ public interface YamlMapping extends YamlNode {
      *  is not a parsable integer.
      */
     default int integer(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return Integer.parseInt(((Scalar) value).value());
+        final Integer value = ComparableScalar.parse(
+            this.value(key), Integer.class, Integer::valueOf
+        );
+        if(value != null) {
+            return value;
         }
         return -1;
     }
@@ -233,9 +190,11 @@ public interface YamlMapping extends YamlNode {
      *  is not a parsable float.
      */
     default float floatNumber(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return Float.parseFloat(((Scalar) value).value());
+        final Float value = ComparableScalar.parse(
+            this.value(key), Float.class, Float::valueOf
+        );
+        if(value != null) {
+            return value;
         }
         return -1;
     }
@@ -271,9 +230,11 @@ public interface YamlMapping extends YamlNode {
      *  is not a parsable double.
      */
     default double doubleNumber(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return Double.parseDouble(((Scalar) value).value());
+        final Double value = ComparableScalar.parse(
+            this.value(key), Double.class, Double::valueOf
+        );
+        if(value != null) {
+            return value;
         }
         return -1.0;
     }
@@ -309,9 +270,11 @@ public interface YamlMapping extends YamlNode {
      *  is not a parsable long.
      */
     default long longNumber(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return Long.parseLong(((Scalar) value).value());
+        final Long value = ComparableScalar.parse(
+            this.value(key), Long.class, Long::valueOf
+        );
+        if(value != null) {
+            return value;
         }
         return -1L;
     }
@@ -345,9 +308,11 @@ public interface YamlMapping extends YamlNode {
      * @throws DateTimeParseException - if the Scalar value cannot be parsed.
      */
     default LocalDate date(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return LocalDate.parse(((Scalar) value).value());
+        final LocalDate value = ComparableScalar.parse(
+            this.value(key), LocalDate.class, LocalDate::parse
+        );
+        if(value != null) {
+            return value;
         }
         return null;
     }
@@ -381,9 +346,11 @@ public interface YamlMapping extends YamlNode {
      * @throws DateTimeParseException - if the Scalar value cannot be parsed.
      */
     default LocalDateTime dateTime(final YamlNode key) {
-        final YamlNode value = this.value(key);
-        if(value != null && value instanceof Scalar) {
-            return LocalDateTime.parse(((Scalar) value).value());
+        final LocalDateTime value = ComparableScalar.parse(
+            this.value(key), LocalDateTime.class, LocalDateTime::parse
+        );
+        if(value != null) {
+            return value;
         }
         return null;
     }
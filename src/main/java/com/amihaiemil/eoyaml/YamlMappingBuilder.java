@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Map;
+
 /**
  * Builder of YamlMapping. Implementations should be immutable and thread-safe.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -67,6 +69,23 @@ public interface YamlMappingBuilder {
      */
     YamlMappingBuilder add(final String key, final YamlNode value);
 
+    /**
+     * Add all the given pairs to the mapping. Use it to build a mapping
+     * in one go, from pairs which are already in a Map.
+     * @param pairs Pairs to add.
+     * @return This builder
+     */
+    default YamlMappingBuilder addAll(
+        final Map<? extends YamlNode, ? extends YamlNode> pairs
+    ) {
+        YamlMappingBuilder builder = this;
+        for(final Map.Entry<? extends YamlNode, ? extends YamlNode> pair
+            : pairs.entrySet()) {
+            builder = builder.add(pair.getKey(), pair.getValue());
+        }
+        return builder;
+    }
+
     /**
      * Build the YamlMapping.
      * @return Built YamlMapping.
@@ -0,0 +1,399 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Path to a YamlNode, compiled once and evaluated as many times as needed.
+ * Keys are separated by dots and the indexes of sequences are given
+ * between brackets. For example:
+ * <pre>
+ *   final YamlPath image = YamlPath.compile("spec.containers[0].image");
+ *   final String value = image.string(deployment);
+ * </pre>
+ * is the same as:
+ * <pre>
+ *   deployment.yamlMapping("spec").yamlSequence("containers")
+ *       .yamlMapping(0).string("image");
+ * </pre>
+ * When evaluated on a YamlNode which was read from some input, the path
+ * walks the read lines directly to the target: the nodes in between are
+ * not created and the lines nested under the siblings are skipped,
+ * without looking at them. Only the target YamlNode is created.<br><br>
+ * The keys of the path can only be plain scalars, not complex keys.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class YamlPath {
+
+    /**
+     * The path, as it was given.
+     */
+    private final String path;
+
+    /**
+     * Key of each step, null if the step is an index.
+     */
+    private final String[] keys;
+
+    /**
+     * Index of each step, -1 if the step is a key.
+     */
+    private final int[] indexes;
+
+    /**
+     * Ctor.
+     * @param path The path, as it was given.
+     * @param keys Key of each step, null if the step is an index.
+     * @param indexes Index of each step, -1 if the step is a key.
+     */
+    private YamlPath(
+        final String path, final String[] keys, final int[] indexes
+    ) {
+        this.path = path;
+        this.keys = keys;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Compile the given path.
+     * @param path Path (e.g. "spec.containers[0].image").
+     * @return Compiled YamlPath.
+     * @throws IllegalArgumentException If the path is not valid.
+     */
+    public static YamlPath compile(final String path) {
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> indexes = new ArrayList<>();
+        int idx = 0;
+        while (idx < path.length()) {
+            if(path.charAt(idx) == '[') {
+                final int close = path.indexOf(']', idx);
+                if(close < 0) {
+                    throw new IllegalArgumentException(
+                        "Missing ']' in path [" + path + "]."
+                    );
+                }
+                keys.add(null);
+                indexes.add(YamlPath.index(path, idx + 1, close));
+                idx = close + 1;
+            } else {
+                final int end = YamlPath.keyEnd(path, idx);
+                keys.add(path.substring(idx, end));
+                indexes.add(-1);
+                idx = end;
+            }
+            idx = YamlPath.separator(path, idx);
+        }
+        if(keys.isEmpty()) {
+            throw new IllegalArgumentException("The path is empty.");
+        }
+        final int[] steps = new int[indexes.size()];
+        for(int step = 0; step < steps.length; ++step) {
+            steps[step] = indexes.get(step);
+        }
+        return new YamlPath(path, keys.toArray(new String[0]), steps);
+    }
+
+    /**
+     * The YamlNode found at this path, starting from the given node.
+     * @param root Node where the path starts.
+     * @return YamlNode or null if there is no node at this path.
+     */
+    public YamlNode node(final YamlNode root) {
+        final YamlNode found;
+        if(root instanceof ReadYamlMapping) {
+            found = this.read(((ReadYamlMapping) root).all(), true);
+        } else if(root instanceof ReadYamlSequence) {
+            found = this.read(((ReadYamlSequence) root).all(), false);
+        } else {
+            found = this.walk(root);
+        }
+        return found;
+    }
+
+    /**
+     * The String value of the Scalar found at this path.
+     * @param root Node where the path starts.
+     * @return String or null if there is no Scalar at this path.
+     */
+    public String string(final YamlNode root) {
+        final YamlNode found = this.node(root);
+        String value = null;
+        if(found instanceof Scalar) {
+            value = ((Scalar) found).value();
+        }
+        return value;
+    }
+
+    /**
+     * The YamlMapping found at this path.
+     * @param root Node where the path starts.
+     * @return YamlMapping or null if there is no YamlMapping at this path.
+     */
+    public YamlMapping yamlMapping(final YamlNode root) {
+        final YamlNode found = this.node(root);
+        YamlMapping mapping = null;
+        if(found instanceof YamlMapping) {
+            mapping = (YamlMapping) found;
+        }
+        return mapping;
+    }
+
+    /**
+     * The YamlSequence found at this path.
+     * @param root Node where the path starts.
+     * @return YamlSequence or null if there is no YamlSequence at this path.
+     */
+    public YamlSequence yamlSequence(final YamlNode root) {
+        final YamlNode found = this.node(root);
+        YamlSequence sequence = null;
+        if(found instanceof YamlSequence) {
+            sequence = (YamlSequence) found;
+        }
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    /**
+     * Walk the read lines to the target and read only the target node.
+     * The keys are looked up and the nodes in between are recognized
+     * the same way as when reading them (see {@link ReadYamlMapping}
+     * and {@link AllYamlLines#toYamlNode(YamlLine)}).
+     * @param lines Lines of the node where the path starts.
+     * @param root Is the node where the path starts a mapping?
+     * @return YamlNode or null.
+     */
+    private YamlNode read(final AllYamlLines lines, final boolean root) {
+        YamlNode found = null;
+        AllYamlLines current = lines;
+        boolean mapping = root;
+        int step = 0;
+        while (current != null && step < this.keys.length) {
+            final int position = this.position(current, step, mapping);
+            AllYamlLines nested = null;
+            if(position >= 0) {
+                nested = YamlPath.nested(
+                    current, position, this.keys[step] == null
+                );
+                if(step == this.keys.length - 1) {
+                    found = YamlPath.target(current.lineAt(position), nested);
+                } else if(nested != null) {
+                    mapping = YamlPath.isMapping(nested);
+                }
+            }
+            current = nested;
+            step++;
+        }
+        return found;
+    }
+
+    /**
+     * Position of the line of the given step: the key's line, if the
+     * lines are of a mapping, or the element's line, if they are of
+     * a sequence.
+     * @param lines Lines of the current node.
+     * @param step Step of this path.
+     * @param mapping Are the lines of a mapping?
+     * @return Position in the table or -1 if the step is not found.
+     */
+    private int position(
+        final AllYamlLines lines, final int step, final boolean mapping
+    ) {
+        int position = -1;
+        if(this.keys[step] != null && mapping) {
+            position = lines.keyPosition(this.keys[step]);
+        } else if(this.keys[step] == null && !mapping) {
+            position = lines.topPosition(this.indexes[step]);
+            if(position >= 0
+                && lines.lineAt(position).kind() != LineKind.SEQUENCE_ITEM) {
+                position = -1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Lines nested under the line at the given position, if the line's
+     * value is nested (it is not a scalar on the same line).
+     * @param lines Lines.
+     * @param position Position of the line.
+     * @param element Is the line an element of a sequence (or a key)?
+     * @return AllYamlLines or null if the value is not nested.
+     */
+    private static AllYamlLines nested(
+        final AllYamlLines lines, final int position, final boolean element
+    ) {
+        final YamlLine line = lines.lineAt(position);
+        final boolean nested;
+        if(element) {
+            nested = (line.flags() & LineKind.BARE) != 0;
+        } else {
+            nested = ReadYamlMapping.hasNestedValue(line);
+        }
+        AllYamlLines result = null;
+        if(nested) {
+            result = lines.nestedAt(position);
+        }
+        return result;
+    }
+
+    /**
+     * Are the given nested lines read as a mapping? They are, unless
+     * their first line is an element of a sequence.
+     * @param nested Nested lines.
+     * @return True or false.
+     */
+    private static boolean isMapping(final AllYamlLines nested) {
+        final Iterator<YamlLine> first = nested.iterator();
+        return !first.hasNext()
+            || first.next().kind() != LineKind.SEQUENCE_ITEM;
+    }
+
+    /**
+     * Read the target node.
+     * @param line Line of the target's key or sequence element.
+     * @param nested Nested lines of the target or null if it is a scalar
+     *  on the same line.
+     * @return YamlNode or null.
+     */
+    private static YamlNode target(
+        final YamlLine line, final AllYamlLines nested
+    ) {
+        YamlNode target = null;
+        if(nested == null) {
+            target = new ReadPlainScalarValue(line);
+        } else if(!nested.lines().isEmpty()) {
+            target = nested.toYamlNode(line);
+        }
+        return target;
+    }
+
+    /**
+     * Walk the path using the YamlNode methods, for the nodes which were
+     * not read from some input (e.g. built ones).
+     * @param root Node where the path starts.
+     * @return YamlNode or null.
+     */
+    private YamlNode walk(final YamlNode root) {
+        YamlNode current = root;
+        for(int step = 0; current != null && step < this.keys.length; ++step) {
+            final boolean index = this.keys[step] == null;
+            if(index && current instanceof YamlSequence) {
+                current = ((YamlSequence) current).value(this.indexes[step]);
+            } else if(!index && current instanceof YamlMapping) {
+                current = ((YamlMapping) current).value(
+                    new BuiltPlainScalar(this.keys[step])
+                );
+            } else {
+                current = null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Skip the separator after a step: the end of the path, a '.' followed
+     * by the next step or a '[' (which is part of the next step).
+     * @param path Path.
+     * @param position Position right after the step.
+     * @return Position where the next step starts.
+     * @throws IllegalArgumentException If there is anything else after
+     *  the step or if the path ends with '.'.
+     */
+    private static int separator(final String path, final int position) {
+        int next = position;
+        if(position < path.length()) {
+            final char separator = path.charAt(position);
+            if(separator == '.' && position + 1 < path.length()
+                && path.charAt(position + 1) != '[') {
+                next = position + 1;
+            } else if(separator != '[') {
+                throw new IllegalArgumentException(
+                    "Expected '.' followed by a key or '[' at position "
+                    + position + " in path [" + path + "]."
+                );
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Find the end of a key.
+     * @param path Path.
+     * @param start Position where the key starts.
+     * @return Position where the key ends (exclusive).
+     * @throws IllegalArgumentException If the key is empty.
+     */
+    private static int keyEnd(final String path, final int start) {
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '.'
+            && path.charAt(end) != '[') {
+            end++;
+        }
+        if(end == start) {
+            throw new IllegalArgumentException(
+                "Missing key at position " + start
+                + " in path [" + path + "]."
+            );
+        }
+        return end;
+    }
+
+    /**
+     * Parse the index of a step.
+     * @param path Path.
+     * @param start Position where the index starts.
+     * @param end Position where the index ends (the ']').
+     * @return Index.
+     * @throws IllegalArgumentException If the index is not a number.
+     */
+    private static int index(
+        final String path, final int start, final int end
+    ) {
+        final String number = path.substring(start, end);
+        int index = -1;
+        if(!number.isEmpty() && number.chars().allMatch(Character::isDigit)) {
+            index = Integer.parseInt(number);
+        }
+        if(index < 0) {
+            throw new IllegalArgumentException(
+                "Index [" + number + "] in path ["
+                + path + "] is not a positive number."
+            );
+        }
+        return index;
+    }
+}
@@ -76,46 +76,40 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     Iterator<YamlNode> iterator();
 
+    /**
+     * Get the YamlNode at the given index. By default, the values of this
+     * sequence are iterated until the index.
+     * @param index Integer index.
+     * @return YamlNode or null if the index is out of bounds.
+     */
+    default YamlNode value(final int index) {
+        YamlNode found = null;
+        if(index >= 0) {
+            final Iterator<YamlNode> values = this.values().iterator();
+            int idx = 0;
+            while (found == null && values.hasNext()) {
+                final YamlNode value = values.next();
+                if(idx == index) {
+                    found = value;
+                }
+                idx++;
+            }
+        }
+        return found;
+    }
+
     /**
      * Indent this YamlSequence. This is a default method since indentation
      * logic should be identical for any kind of YamlSequence, regardless of
-     * its implementation.
+     * its implementation. The whole sequence is printed in a single pass
+     * (see {@link YamlPrinter}).
      * @param indentation Indentation to start with. Usually, it's 0, since we
      *  don't want to have spaces at the beginning. But in the case of nested
      *  YamlNodes, this value may be greater than 0.
      * @return String indented YamlSequence, by the specified indentation.
      */
     default String indent(final int indentation) {
-        if(indentation < 0) {
-            throw new IllegalArgumentException(
-                "Indentation level has to be >=0"
-            );
-        }
-        final String newLine = System.lineSeparator();
-        final StringBuilder print = new StringBuilder();
-        int spaces = indentation;
-        final StringBuilder indent = new StringBuilder();
-        while (spaces > 0) {
-            indent.append(" ");
-            spaces--;
-        }
-        for (final YamlNode node : this.values()) {
-            print.append(indent)
-                .append("- ");
-            if (node instanceof Scalar) {
-                print.append(node.toString()).append(newLine);
-            } else  {
-                print
-                    .append(newLine)
-                    .append(node.indent(indentation + 2))
-                    .append(newLine);
-            }
-        }
-        String printed = print.toString();
-        if(printed.length() > 0) {
-            printed = printed.substring(0, printed.length() - 1);
-        }
-        return printed;
+        return RtYamlPrinter.indent(this, indentation);
     }
 
     /**
@@ -131,9 +125,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable integer.
      */
     default int integer(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Integer.parseInt(value);
+        final Integer value = ComparableScalar.parse(
+            this.value(index), Integer.class,
+            ComparableScalar.nonEmpty(Integer::valueOf)
+        );
+        if(value != null) {
+            return value;
         }
         return -1;
     }
@@ -151,9 +148,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable float.
      */
     default float floatNumber(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Float.parseFloat(value);
+        final Float value = ComparableScalar.parse(
+            this.value(index), Float.class,
+            ComparableScalar.nonEmpty(Float::valueOf)
+        );
+        if(value != null) {
+            return value;
         }
         return -1;
     }
@@ -171,9 +171,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable double.
      */
     default double doubleNumber(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Double.parseDouble(value);
+        final Double value = ComparableScalar.parse(
+            this.value(index), Double.class,
+            ComparableScalar.nonEmpty(Double::valueOf)
+        );
+        if(value != null) {
+            return value;
         }
         return -1.0;
     }
@@ -191,9 +194,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable long.
      */
     default long longNumber(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Long.parseLong(value);
+        final Long value = ComparableScalar.parse(
+            this.value(index), Long.class,
+            ComparableScalar.nonEmpty(Long::valueOf)
+        );
+        if(value != null) {
+            return value;
         }
         return -1L;
     }
@@ -210,9 +216,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws DateTimeParseException - if the Scalar value cannot be parsed.
      */
     default LocalDate date(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return LocalDate.parse(value);
+        final LocalDate value = ComparableScalar.parse(
+            this.value(index), LocalDate.class,
+            ComparableScalar.nonEmpty(LocalDate::parse)
+        );
+        if(value != null) {
+            return value;
         }
         return null;
     }
@@ -229,9 +238,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws DateTimeParseException - if the Scalar value cannot be parsed.
      */
     default LocalDateTime dateTime(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return LocalDateTime.parse(value);
+        final LocalDateTime value = ComparableScalar.parse(
+            this.value(index), LocalDateTime.class,
+            ComparableScalar.nonEmpty(LocalDateTime::parse)
+        );
+        if(value != null) {
+            return value;
         }
         return null;
     }
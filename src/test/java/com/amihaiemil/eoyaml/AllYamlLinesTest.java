@@ -95,4 +95,116 @@ public final class AllYamlLinesTest {
         MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
     }
 
+
+    /**
+     * AllYamlLines can return a line by its number, even if some
+     * numbers are missing (e.g. empty lines, which are not read).
+     */
+    @Test
+    public void returnsLineByNumber() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  - fourth", 3));
+        lines.add(new RtYamlLine("  - fifth", 4));
+        lines.add(new RtYamlLine("second: something", 7));
+        final YamlLines yamlLines = new AllYamlLines(lines);
+        MatcherAssert.assertThat(
+            yamlLines.line(4).trimmed(), Matchers.equalTo("- fifth")
+        );
+        MatcherAssert.assertThat(
+            yamlLines.line(7).trimmed(),
+            Matchers.equalTo("second: something")
+        );
+        MatcherAssert.assertThat(
+            yamlLines.nested(0).line(3).trimmed(),
+            Matchers.equalTo("- fourth")
+        );
+    }
+
+    /**
+     * AllYamlLines complains if the line with the given number is not
+     * in the lines.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnMissingLine() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  - fourth", 1));
+        lines.add(new RtYamlLine("second: something", 2));
+        new AllYamlLines(lines).nested(0).line(2);
+    }
+
+    /**
+     * AllYamlLines verifies the indentation only once. The nested lines
+     * of verified lines are not verified again.
+     */
+    @Test
+    public void verifiesIndentationOnlyOnce() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  second: value", 1));
+        lines.add(new RtYamlLine("  third: value", 2));
+        lines.add(new RtYamlLine("fourth: value", 3));
+        final LineTable table = new LineTable(lines);
+        final AllYamlLines all = new AllYamlLines(table);
+        MatcherAssert.assertThat(table.wellIndented(0, 4), Matchers.is(false));
+        MatcherAssert.assertThat(
+            all.wellIndented(), Matchers.sameInstance(all)
+        );
+        MatcherAssert.assertThat(table.wellIndented(0, 4), Matchers.is(true));
+        MatcherAssert.assertThat(table.wellIndented(1, 3), Matchers.is(true));
+    }
+
+    /**
+     * AllYamlLines complains if the lines are not well indented.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnBadIndentation() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("   second: value", 1));
+        lines.add(new RtYamlLine("fourth: value", 2));
+        new AllYamlLines(lines).wellIndented();
+    }
+
+    /**
+     * AllYamlLines finds the position of a key, skipping the nested lines.
+     */
+    @Test
+    public void findsKeyPosition() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  key: value", 1));
+        lines.add(new RtYamlLine("second: something", 2));
+        lines.add(new RtYamlLine("key: other", 3));
+        final AllYamlLines all = new AllYamlLines(lines);
+        MatcherAssert.assertThat(all.keyPosition("key"), Matchers.is(3));
+        MatcherAssert.assertThat(all.keyPosition("first"), Matchers.is(0));
+        MatcherAssert.assertThat(all.keyPosition("missing"), Matchers.is(-1));
+        MatcherAssert.assertThat(
+            all.nestedAt(0).keyPosition("key"), Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            all.lineAt(3).trimmed(), Matchers.equalTo("key: other")
+        );
+    }
+
+    /**
+     * AllYamlLines finds the position of a top-level line by its index.
+     */
+    @Test
+    public void findsTopPosition() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("---", 0));
+        lines.add(new RtYamlLine("- ", 1));
+        lines.add(new RtYamlLine("  - nested", 2));
+        lines.add(new RtYamlLine("- second", 3));
+        final AllYamlLines all = new AllYamlLines(lines);
+        MatcherAssert.assertThat(all.topPosition(0), Matchers.is(1));
+        MatcherAssert.assertThat(all.topPosition(1), Matchers.is(3));
+        MatcherAssert.assertThat(all.topPosition(2), Matchers.is(-1));
+        MatcherAssert.assertThat(
+            all.nestedAt(1).lines().size(), Matchers.is(1)
+        );
+    }
 }
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BufferNumber}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class BufferNumberTest {
+
+    /**
+     * BufferNumber parses ints like Integer.parseInt.
+     */
+    @Test
+    public void parsesIntegers() {
+        final String[] numbers = {
+            "0", "7", "-7", "+15", "2147483647", "-2147483648", "0012",
+        };
+        for(final String number : numbers) {
+            MatcherAssert.assertThat(
+                this.number(number).integer(),
+                Matchers.is(Integer.parseInt(number))
+            );
+        }
+    }
+
+    /**
+     * BufferNumber parses longs like Long.parseLong.
+     */
+    @Test
+    public void parsesLongs() {
+        final String[] numbers = {
+            "0", "-12", "2147483648", "9223372036854775807",
+            "-9223372036854775808",
+        };
+        for(final String number : numbers) {
+            MatcherAssert.assertThat(
+                this.number(number).longNumber(),
+                Matchers.is(Long.parseLong(number))
+            );
+        }
+    }
+
+    /**
+     * BufferNumber parses doubles like Double.parseDouble, with or
+     * without its fast path.
+     */
+    @Test
+    public void parsesDoubles() {
+        final String[] numbers = {
+            "0", "1.5", "-0.25", "1e5", ".5", "3.14159", "1e-7", "2.",
+            "12345.678E-3", "0.1", "Infinity", "-NaN", "1.0d",
+            "12345678901234567890", "1e300", "0x1p3",
+        };
+        for(final String number : numbers) {
+            MatcherAssert.assertThat(
+                this.number(number).doubleNumber(),
+                Matchers.is(Double.parseDouble(number))
+            );
+        }
+    }
+
+    /**
+     * BufferNumber parses the supported types and returns null for
+     * the others.
+     */
+    @Test
+    public void parsesGivenType() {
+        final BufferNumber number = this.number("42");
+        MatcherAssert.assertThat(
+            number.parsed(Integer.class), Matchers.is(42)
+        );
+        MatcherAssert.assertThat(number.parsed(Long.class), Matchers.is(42L));
+        MatcherAssert.assertThat(
+            number.parsed(Double.class), Matchers.is(42.0)
+        );
+        MatcherAssert.assertThat(
+            number.parsed(Float.class), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * BufferNumber only parses between its positions.
+     */
+    @Test
+    public void parsesBetweenPositions() {
+        final InputBuffer buffer = new Utf8InputBuffer(
+            ByteBuffer.wrap("key: 123 # 45".getBytes(StandardCharsets.UTF_8))
+        );
+        MatcherAssert.assertThat(
+            new BufferNumber(buffer, 5, 8).integer(), Matchers.is(123)
+        );
+    }
+
+    /**
+     * BufferNumber complains if the int is out of range.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void complainsOnIntegerOverflow() {
+        this.number("2147483648").integer();
+    }
+
+    /**
+     * BufferNumber complains if the long is out of range.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void complainsOnLongOverflow() {
+        this.number("-9223372036854775809").longNumber();
+    }
+
+    /**
+     * BufferNumber complains if the text is not an int.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void complainsOnInvalidInteger() {
+        this.number("12a").integer();
+    }
+
+    /**
+     * BufferNumber complains if the text is only a sign.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void complainsOnSignOnly() {
+        this.number("-").longNumber();
+    }
+
+    /**
+     * BufferNumber complains if the text is not a double.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void complainsOnInvalidDouble() {
+        this.number("1.2.3").doubleNumber();
+    }
+
+    /**
+     * BufferNumber of the whole given text.
+     * @param text Text.
+     * @return BufferNumber.
+     */
+    private BufferNumber number(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new BufferNumber(
+            new Utf8InputBuffer(ByteBuffer.wrap(bytes)), 0, bytes.length
+        );
+    }
+}
@@ -32,6 +32,9 @@ import static org.hamcrest.CoreMatchers.is;
 import java.util.HashMap;
 import java.util.LinkedList;
 
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -132,4 +135,53 @@ public final class BuiltPlainScalarTest {
         RtYamlSequence seq = new RtYamlSequence(new LinkedList<YamlNode>());
         MatcherAssert.assertThat(first.compareTo(seq), Matchers.lessThan(0));
     }
+
+    /**
+     * Scalar parses its value only once for the same type.
+     */
+    @Test
+    public void cachesParsedValue() {
+        final BuiltPlainScalar scalar = new BuiltPlainScalar("2020-05-03");
+        final AtomicInteger parsed = new AtomicInteger();
+        final Function<String, LocalDate> parser = value -> {
+            parsed.incrementAndGet();
+            return LocalDate.parse(value);
+        };
+        final LocalDate first = scalar.parsed(LocalDate.class, parser);
+        MatcherAssert.assertThat(
+            scalar.parsed(LocalDate.class, parser), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(parsed.get(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            new BuiltPlainScalar("12").parsed(Integer.class, Integer::valueOf),
+            Matchers.is(12)
+        );
+    }
+
+    /**
+     * Scalar parses its value again if another type is requested.
+     */
+    @Test
+    public void parsesOtherType() {
+        final BuiltPlainScalar scalar = new BuiltPlainScalar("12");
+        MatcherAssert.assertThat(
+            scalar.parsed(Integer.class, Integer::valueOf), Matchers.is(12)
+        );
+        MatcherAssert.assertThat(
+            scalar.parsed(Long.class, Long::valueOf), Matchers.is(12L)
+        );
+        MatcherAssert.assertThat(
+            ComparableScalar.parse(
+                scalar, Double.class, ComparableScalar.nonEmpty(Double::valueOf)
+            ),
+            Matchers.is(12.0)
+        );
+        MatcherAssert.assertThat(
+            ComparableScalar.parse(
+                new BuiltPlainScalar(""), Integer.class,
+                ComparableScalar.nonEmpty(Integer::valueOf)
+            ),
+            Matchers.nullValue()
+        );
+    }
 }
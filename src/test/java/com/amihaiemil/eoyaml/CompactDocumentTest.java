@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompactDocument}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class CompactDocumentTest {
+
+    /**
+     * CompactDocument reads the nodes in its arrays.
+     */
+    @Test
+    public void readsNodes() {
+        final CompactDocument document = CompactDocumentTest.document(
+            String.join(
+                "\n",
+                "---",
+                "name: eo-yaml # comment",
+                "developers:",
+                "  - rultor",
+                "  -",
+                "    - nested",
+                "architect: 'mihai'"
+            ),
+            CompactDocument.MAPPING
+        );
+        MatcherAssert.assertThat(document.size(), Matchers.is(7));
+        MatcherAssert.assertThat(
+            document.kind(0), Matchers.is(CompactDocument.MAPPING)
+        );
+        final int name = document.first(0);
+        MatcherAssert.assertThat(document.key(name), Matchers.equalTo("name"));
+        MatcherAssert.assertThat(
+            document.value(name), Matchers.equalTo("eo-yaml")
+        );
+        final int developers = document.next(name);
+        MatcherAssert.assertThat(
+            document.kind(developers), Matchers.is(CompactDocument.SEQUENCE)
+        );
+        final int nested = document.next(document.first(developers));
+        MatcherAssert.assertThat(
+            document.kind(nested), Matchers.is(CompactDocument.SEQUENCE)
+        );
+        MatcherAssert.assertThat(
+            document.parent(document.first(nested)), Matchers.is(nested)
+        );
+        MatcherAssert.assertThat(
+            document.value(document.first(nested)),
+            Matchers.equalTo("nested")
+        );
+        final int architect = document.child(0, "architect");
+        MatcherAssert.assertThat(
+            document.value(architect), Matchers.equalTo("mihai")
+        );
+        MatcherAssert.assertThat(document.next(architect), Matchers.is(-1));
+        MatcherAssert.assertThat(document.child(0, "missing"), Matchers.is(-1));
+    }
+
+    /**
+     * CompactDocument complains about a key with nothing under it.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnKeyWithoutValue() {
+        CompactDocumentTest.document(
+            "empty:\nother: value", CompactDocument.MAPPING
+        );
+    }
+
+    /**
+     * CompactDocument complains about a last key with nothing under it.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnLastKeyWithoutValue() {
+        CompactDocumentTest.document(
+            "other: value\nempty:", CompactDocument.MAPPING
+        );
+    }
+
+    /**
+     * CompactDocument says that block scalars are not supported.
+     */
+    @Test
+    public void complainsOnBlockScalars() {
+        try {
+            CompactDocumentTest.document(
+                "a: |\n  text", CompactDocument.MAPPING
+            );
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.startsWith("Block scalars (| or >) are not supported")
+            );
+        }
+        MatcherAssert.assertThat(
+            CompactDocumentTest.document(
+                "cmd: a|b|\narrow: ->", CompactDocument.MAPPING
+            ).size(),
+            Matchers.is(3)
+        );
+    }
+
+    /**
+     * CompactDocument compares the keys as bytes, so it can find keys
+     * with any characters.
+     */
+    @Test
+    public void findsUnicodeKeys() {
+        final CompactDocument document = CompactDocumentTest.document(
+            "città: Roma\nnaïve: true", CompactDocument.MAPPING
+        );
+        MatcherAssert.assertThat(
+            document.value(document.child(0, "naïve")),
+            Matchers.equalTo("true")
+        );
+        MatcherAssert.assertThat(
+            document.value(document.child(0, "città")),
+            Matchers.equalTo("Roma")
+        );
+    }
+
+    /**
+     * CompactDocument finds the keys of each node, letting the last
+     * occurrence of a key win.
+     */
+    @Test
+    public void findsKeysByParent() {
+        final CompactDocument document = CompactDocumentTest.document(
+            String.join(
+                "\n",
+                "name: first",
+                "spec:",
+                "  name: nested",
+                "  other: value",
+                "name: last"
+            ),
+            CompactDocument.MAPPING
+        );
+        MatcherAssert.assertThat(
+            document.value(document.child(0, "name")),
+            Matchers.equalTo("last")
+        );
+        final int spec = document.child(0, "spec");
+        MatcherAssert.assertThat(
+            document.value(document.child(spec, "name")),
+            Matchers.equalTo("nested")
+        );
+        MatcherAssert.assertThat(
+            document.child(spec, "spec"), Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            document.child(0, "other"), Matchers.is(-1)
+        );
+    }
+
+    /**
+     * CompactDocument complains about bad indentation.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnBadIndentation() {
+        CompactDocumentTest.document(
+            "first:\n  second: a\n   third: b", CompactDocument.MAPPING
+        );
+    }
+
+    /**
+     * CompactDocument does not support complex keys.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnComplexKeys() {
+        CompactDocumentTest.document(
+            "?\n  - key\n: value", CompactDocument.MAPPING
+        );
+    }
+
+    /**
+     * CompactDocument complains if a sequence has something else than
+     * elements.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnBadElement() {
+        CompactDocumentTest.document(
+            "- first\nkey: value", CompactDocument.SEQUENCE
+        );
+    }
+
+    /**
+     * Read a CompactDocument from the given text.
+     * @param text Text.
+     * @param kind Kind of the root.
+     * @return CompactDocument.
+     */
+    private static CompactDocument document(
+        final String text, final int kind
+    ) {
+        return new CompactDocument(
+            new Utf8InputBuffer(
+                ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+            ),
+            kind
+        );
+    }
+}
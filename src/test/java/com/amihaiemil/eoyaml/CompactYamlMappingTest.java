@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompactYamlMapping}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class CompactYamlMappingTest {
+
+    /**
+     * CompactYamlMapping is equal to the YamlMapping read as usual.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void equalsReadMapping() throws IOException {
+        final String file = "src/test/resources/mapping_ignore_directives.yml";
+        final YamlMapping compact = new RtYamlInput(
+            new FileInputStream(file)
+        ).readCompactYamlMapping();
+        final YamlMapping read = new RtYamlInput(
+            new FileInputStream(file)
+        ).readYamlMapping();
+        MatcherAssert.assertThat(compact, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            compact.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * CompactYamlMapping returns its values.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void returnsValues() throws IOException {
+        final YamlMapping compact = new RtYamlInput(
+            new FileInputStream("src/test/resources/commentedMapping.yml")
+        ).readCompactYamlMapping();
+        MatcherAssert.assertThat(
+            compact.string("architect"), Matchers.equalTo("mihai")
+        );
+        MatcherAssert.assertThat(
+            compact.string(new BuiltPlainScalar("name")),
+            Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            compact.yamlSequence("developers").string(0),
+            Matchers.equalTo("rultor")
+        );
+        MatcherAssert.assertThat(
+            compact.yamlSequence(new BuiltPlainScalar("developers")).size(),
+            Matchers.is(3)
+        );
+        MatcherAssert.assertThat(
+            compact.value(new BuiltPlainScalar("name")),
+            Matchers.equalTo(new BuiltPlainScalar("eo-yaml"))
+        );
+        MatcherAssert.assertThat(compact.keys(), Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(
+            compact.values(), Matchers.iterableWithSize(3)
+        );
+        MatcherAssert.assertThat(
+            compact.string("developers"), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            compact.yamlMapping("developers"), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            compact.yamlMapping("missing"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * CompactYamlMapping can iterate and print a wide mapping.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void printsWideMapping() throws IOException {
+        final int count = 50_000;
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < count; ++idx) {
+            text.append("key").append(idx).append(": ").append(idx)
+                .append('\n');
+        }
+        text.append("key7: last\n");
+        final YamlMapping compact = new RtYamlInput(
+            new ByteArrayInputStream(
+                text.toString().getBytes(StandardCharsets.UTF_8)
+            )
+        ).readCompactYamlMapping();
+        MatcherAssert.assertThat(
+            compact.values(), Matchers.iterableWithSize(count)
+        );
+        MatcherAssert.assertThat(
+            compact.string("key7"), Matchers.equalTo("last")
+        );
+        MatcherAssert.assertThat(
+            compact.string("key49999"), Matchers.equalTo("49999")
+        );
+        MatcherAssert.assertThat(
+            compact.toString(), Matchers.containsString("key7: last\n")
+        );
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompactYamlSequence}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class CompactYamlSequenceTest {
+
+    /**
+     * CompactYamlSequence is equal to the YamlSequence read as usual.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void equalsReadSequence() throws IOException {
+        final String file = "src/test/resources/simpleSequence.yml";
+        final YamlSequence compact = new RtYamlInput(
+            new FileInputStream(file)
+        ).readCompactYamlSequence();
+        final YamlSequence read = new RtYamlInput(
+            new FileInputStream(file)
+        ).readYamlSequence();
+        MatcherAssert.assertThat(compact, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            compact.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * CompactYamlSequence returns its elements.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void returnsElements() throws IOException {
+        final YamlSequence compact = Yaml.createYamlInput(
+            String.join(
+                "\n",
+                "- first",
+                "-",
+                "  key: value",
+                "-",
+                "  - nested"
+            )
+        ).readCompactYamlSequence();
+        MatcherAssert.assertThat(compact.size(), Matchers.is(3));
+        MatcherAssert.assertThat(compact.string(0), Matchers.equalTo("first"));
+        MatcherAssert.assertThat(
+            compact.yamlMapping(1).string("key"), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            compact.yamlSequence(2).string(0), Matchers.equalTo("nested")
+        );
+        MatcherAssert.assertThat(compact.string(1), Matchers.nullValue());
+        MatcherAssert.assertThat(compact.yamlMapping(0), Matchers.nullValue());
+        MatcherAssert.assertThat(compact.yamlSequence(3), Matchers.nullValue());
+        MatcherAssert.assertThat(compact.string(-1), Matchers.nullValue());
+        MatcherAssert.assertThat(compact, Matchers.iterableWithSize(3));
+    }
+}
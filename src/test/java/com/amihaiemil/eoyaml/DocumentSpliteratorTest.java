@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DocumentSpliterator}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class DocumentSpliteratorTest {
+
+    /**
+     * DocumentSpliterator splits on the document boundaries.
+     */
+    @Test
+    public void splitsOnDocuments() {
+        final Spliterator<YamlNode> suffix = new DocumentSpliterator(
+            this.table(), 0, 10
+        );
+        MatcherAssert.assertThat(suffix.estimateSize(), Matchers.is(4L));
+        final Spliterator<YamlNode> prefix = suffix.trySplit();
+        MatcherAssert.assertThat(prefix.estimateSize(), Matchers.is(2L));
+        MatcherAssert.assertThat(suffix.estimateSize(), Matchers.is(2L));
+        final List<YamlNode> first = new ArrayList<>();
+        prefix.forEachRemaining(first::add);
+        MatcherAssert.assertThat(first, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            ((YamlMapping) first.get(0)).string("a"), Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            ((YamlSequence) first.get(1)).string(0), Matchers.equalTo("b")
+        );
+        final List<YamlNode> second = new ArrayList<>();
+        suffix.forEachRemaining(second::add);
+        MatcherAssert.assertThat(second, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            ((YamlMapping) second.get(0)).string("d"), Matchers.equalTo("4")
+        );
+        MatcherAssert.assertThat(
+            ((YamlMapping) second.get(1)).string("c"), Matchers.equalTo("3")
+        );
+    }
+
+    /**
+     * DocumentSpliterator does not split a single document.
+     */
+    @Test
+    public void doesNotSplitSingleDocument() {
+        final Spliterator<YamlNode> spliterator = new DocumentSpliterator(
+            this.table(), 7, 10
+        );
+        MatcherAssert.assertThat(spliterator.trySplit(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            spliterator.tryAdvance(doc -> { }), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            spliterator.tryAdvance(doc -> { }), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Table with 4 documents.
+     * @return LineTable.
+     */
+    private LineTable table() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("---", 0));
+        lines.add(new RtYamlLine("  a: 1", 1));
+        lines.add(new RtYamlLine("---", 2));
+        lines.add(new RtYamlLine("  - b", 3));
+        lines.add(new RtYamlLine("...", 4));
+        lines.add(new RtYamlLine("---", 5));
+        lines.add(new RtYamlLine("d: 4", 6));
+        lines.add(new RtYamlLine("---", 7));
+        lines.add(new RtYamlLine("c: 3", 8));
+        lines.add(new RtYamlLine("...", 9));
+        return new LineTable(lines);
+    }
+}
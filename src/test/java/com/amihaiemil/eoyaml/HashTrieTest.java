@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HashTrie}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class HashTrieTest {
+
+    /**
+     * HashTrie adds pairs without changing the original trie.
+     */
+    @Test
+    public void addsPairsImmutably() {
+        final HashTrie<String, Integer> empty = new HashTrie<>();
+        final HashTrie<String, Integer> one = empty.with("one", 1);
+        final HashTrie<String, Integer> two = one.with("two", 2);
+        MatcherAssert.assertThat(empty.size(), Matchers.is(0));
+        MatcherAssert.assertThat(one.size(), Matchers.is(1));
+        MatcherAssert.assertThat(one.get("two"), Matchers.nullValue());
+        MatcherAssert.assertThat(two.size(), Matchers.is(2));
+        MatcherAssert.assertThat(two.get("one"), Matchers.is(1));
+        MatcherAssert.assertThat(two.get("two"), Matchers.is(2));
+        MatcherAssert.assertThat(two.containsKey("three"), Matchers.is(false));
+    }
+
+    /**
+     * HashTrie replaces the value of an existing key.
+     */
+    @Test
+    public void replacesValue() {
+        final HashTrie<String, Integer> trie = new HashTrie<String, Integer>()
+            .with("key", 1).with("key", 2);
+        MatcherAssert.assertThat(trie.size(), Matchers.is(1));
+        MatcherAssert.assertThat(trie.get("key"), Matchers.is(2));
+    }
+
+    /**
+     * HashTrie keeps the keys with equal hashes.
+     */
+    @Test
+    public void keepsCollidingKeys() {
+        MatcherAssert.assertThat(
+            "Aa".hashCode(), Matchers.is("BB".hashCode())
+        );
+        final HashTrie<String, Integer> trie = new HashTrie<String, Integer>()
+            .with("Aa", 1).with("BB", 2).with("Aa", 3);
+        MatcherAssert.assertThat(trie.size(), Matchers.is(2));
+        MatcherAssert.assertThat(trie.get("Aa"), Matchers.is(3));
+        MatcherAssert.assertThat(trie.get("BB"), Matchers.is(2));
+        final Map<String, Integer> added = new HashMap<>();
+        added.put("BB", 4);
+        added.put("C#", 5);
+        final HashTrie<String, Integer> all = trie.withAll(added);
+        MatcherAssert.assertThat(all.size(), Matchers.is(3));
+        MatcherAssert.assertThat(all.get("Aa"), Matchers.is(3));
+        MatcherAssert.assertThat(all.get("BB"), Matchers.is(4));
+        MatcherAssert.assertThat(all.get("C#"), Matchers.is(5));
+    }
+
+    /**
+     * HashTrie holds many pairs, added one by one or all at once.
+     */
+    @Test
+    public void holdsManyPairs() {
+        final Map<Integer, String> expected = new HashMap<>();
+        HashTrie<Integer, String> trie = new HashTrie<>();
+        for(int idx = 0; idx < 20000; ++idx) {
+            final int key = idx * 7919;
+            expected.put(key, "value" + idx);
+            trie = trie.with(key, "value" + idx);
+        }
+        MatcherAssert.assertThat(trie, Matchers.equalTo(expected));
+        MatcherAssert.assertThat(
+            new HashTrie<Integer, String>().withAll(expected),
+            Matchers.equalTo(expected)
+        );
+        final Map<Integer, String> half = new HashMap<>();
+        for(int idx = 0; idx < 10000; ++idx) {
+            half.put(idx * 7919, "changed" + idx);
+            expected.put(idx * 7919, "changed" + idx);
+        }
+        MatcherAssert.assertThat(
+            trie.withAll(half), Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * HashTrie cannot be modified through the Map methods.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void cannotBeModified() {
+        new HashTrie<String, String>().with("key", "value").put("a", "b");
+    }
+}
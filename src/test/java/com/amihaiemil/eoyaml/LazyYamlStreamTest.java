@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LazyYamlStream}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class LazyYamlStreamTest {
+
+    /**
+     * LazyYamlStream streams the documents one by one, without reading
+     * the ones which are not needed.
+     */
+    @Test
+    public void streamsDocumentsLazily() {
+        final Iterator<YamlNode> documents = Arrays.<YamlNode>asList(
+            new BuiltPlainScalar("first"),
+            new BuiltPlainScalar("second"),
+            new BuiltPlainScalar("third")
+        ).iterator();
+        MatcherAssert.assertThat(
+            new LazyYamlStream(documents)
+                .map(node -> ((Scalar) node).value())
+                .filter(value -> value.startsWith("s"))
+                .findFirst().get(),
+            Matchers.equalTo("second")
+        );
+        MatcherAssert.assertThat(
+            ((Scalar) documents.next()).value(), Matchers.equalTo("third")
+        );
+    }
+
+    /**
+     * LazyYamlStream keeps the remaining documents, if all of them
+     * are needed at once.
+     */
+    @Test
+    public void keepsDocumentsForSize() {
+        final YamlStream stream = new LazyYamlStream(
+            Arrays.<YamlNode>asList(
+                new BuiltPlainScalar("first"),
+                new BuiltPlainScalar("second")
+            ).iterator()
+        );
+        MatcherAssert.assertThat(stream.values().isEmpty(), Matchers.is(false));
+        MatcherAssert.assertThat(stream.values().size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            stream.map(node -> ((Scalar) node).value())
+                .collect(Collectors.toList()),
+            Matchers.contains("first", "second")
+        );
+    }
+
+    /**
+     * LazyYamlStream is equal to the ReadYamlStream of the same input
+     * and it is printed the same.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSameAsReadYamlStream() throws Exception {
+        final File file = new File("src/test/resources/streamOfMappings.yml");
+        final YamlStream read = new RtYamlInput(
+            new FileInputStream(file)
+        ).readYamlStream();
+        MatcherAssert.assertThat(
+            new RtYamlInput(new FileInputStream(file)).readLazyYamlStream(),
+            Matchers.equalTo(read)
+        );
+        MatcherAssert.assertThat(
+            new RtYamlInput(
+                new FileInputStream(file)
+            ).readLazyYamlStream().toString(),
+            Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * LazyYamlStream splits the documents the same way as ReadYamlStream,
+     * skipping the lines which are not in a document.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void splitsSameAsReadYamlStream() throws Exception {
+        final String text = "a: b\n---\nc: d\n...\ne: f\n---\n- g\n";
+        final YamlStream read = new RtYamlInput(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))
+        ).readYamlStream();
+        final YamlStream lazy = new RtYamlInput(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))
+        ).readLazyYamlStream();
+        MatcherAssert.assertThat(read.values().size(), Matchers.is(2));
+        MatcherAssert.assertThat(lazy, Matchers.equalTo(read));
+    }
+
+    /**
+     * LazyYamlStream skips the documents without content (e.g. only with
+     * a directive), the same way as ReadYamlStream.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void skipsDocumentsWithoutContent() throws Exception {
+        final String text = "---\n%YAML 1.2\n---\na: 1\n";
+        final YamlStream read = new RtYamlInput(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))
+        ).readYamlStream();
+        final YamlStream lazy = new RtYamlInput(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))
+        ).readLazyYamlStream();
+        MatcherAssert.assertThat(read.values().size(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            ((YamlMapping) read.values().iterator().next()).string("a"),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(lazy, Matchers.equalTo(read));
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineKind}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class LineKindTest {
+
+    /**
+     * LineKind knows the kinds of lines.
+     */
+    @Test
+    public void knowsKinds() {
+        this.kind("key:", LineKind.KEY_ONLY);
+        this.kind("key: value", LineKind.KEY_VALUE);
+        this.kind("key: 'a:'", LineKind.KEY_VALUE);
+        this.kind("- value", LineKind.SEQUENCE_ITEM);
+        this.kind("-", LineKind.SEQUENCE_ITEM);
+        this.kind("- |", LineKind.SEQUENCE_ITEM);
+        this.kind("?", LineKind.COMPLEX_KEY);
+        this.kind("key: |", LineKind.BLOCK_SCALAR_HEADER);
+        this.kind("key: >", LineKind.BLOCK_SCALAR_HEADER);
+        this.kind("---", LineKind.MARKER);
+        this.kind("...", LineKind.MARKER);
+        this.kind("%YAML 1.2", LineKind.DIRECTIVE);
+        this.kind("!!set", LineKind.DIRECTIVE);
+        this.kind("some text", LineKind.TEXT);
+        this.kind("", LineKind.TEXT);
+    }
+
+    /**
+     * LineKind knows a block scalar's header only by the value after
+     * the key, not by the last character of the line.
+     */
+    @Test
+    public void knowsBlockScalarHeaders() {
+        this.kind("key: |-", LineKind.BLOCK_SCALAR_HEADER);
+        this.kind("key: >2+", LineKind.BLOCK_SCALAR_HEADER);
+        this.kind("cmd: a|b|", LineKind.KEY_VALUE);
+        this.kind("arrow: ->", LineKind.KEY_VALUE);
+        this.kind("key: |x", LineKind.KEY_VALUE);
+        this.kind("some text >", LineKind.TEXT);
+    }
+
+    /**
+     * LineKind knows the flags of lines.
+     */
+    @Test
+    public void knowsFlags() {
+        MatcherAssert.assertThat(
+            LineKind.flags("key:"), Matchers.is(LineKind.NESTED)
+        );
+        MatcherAssert.assertThat(
+            LineKind.flags("-"), Matchers.is(LineKind.NESTED | LineKind.BARE)
+        );
+        MatcherAssert.assertThat(
+            LineKind.flags("---"), Matchers.is(LineKind.START)
+        );
+        MatcherAssert.assertThat(LineKind.flags("..."), Matchers.is(0));
+        MatcherAssert.assertThat(LineKind.flags("key: v"), Matchers.is(0));
+        MatcherAssert.assertThat(LineKind.flags(""), Matchers.is(0));
+    }
+
+    /**
+     * Only the markers and directives are ignored.
+     */
+    @Test
+    public void ignoresMarkersAndDirectives() {
+        for(final LineKind kind : LineKind.values()) {
+            MatcherAssert.assertThat(
+                kind.ignored(),
+                Matchers.is(
+                    kind == LineKind.MARKER || kind == LineKind.DIRECTIVE
+                )
+            );
+        }
+    }
+
+    /**
+     * Check the kind of the given line.
+     * @param trimmed Trimmed line.
+     * @param expected Expected kind.
+     */
+    private void kind(final String trimmed, final LineKind expected) {
+        MatcherAssert.assertThat(
+            trimmed, LineKind.kindOf(trimmed), Matchers.is(expected)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineScanner}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class LineScannerTest {
+
+    /**
+     * LineScanner skips the blank lines, but counts them.
+     */
+    @Test
+    public void skipsBlankLines() {
+        final AllYamlLines lines = new LineScanner(
+            new Utf8InputBuffer(
+                ByteBuffer.wrap(
+                    "first: 1\n\n# comment\r\n  \rsecond: 2\n".getBytes(
+                        StandardCharsets.UTF_8
+                    )
+                )
+            )
+        ).scan();
+        final Iterator<YamlLine> iterator = lines.iterator();
+        final YamlLine first = iterator.next();
+        MatcherAssert.assertThat(first.trimmed(), Matchers.equalTo("first: 1"));
+        MatcherAssert.assertThat(first.number(), Matchers.is(0));
+        final YamlLine second = iterator.next();
+        MatcherAssert.assertThat(
+            second.trimmed(), Matchers.equalTo("second: 2")
+        );
+        MatcherAssert.assertThat(second.number(), Matchers.is(4));
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * LineScanner can scan an empty buffer.
+     */
+    @Test
+    public void scansEmptyBuffer() {
+        MatcherAssert.assertThat(
+            new LineScanner(
+                new Utf8InputBuffer(ByteBuffer.allocate(0))
+            ).scan(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * LineScanner can keep only the lines of the selected keys.
+     */
+    @Test
+    public void scansSelectedKeys() {
+        final AllYamlLines lines = new LineScanner(
+            new Utf8InputBuffer(
+                ByteBuffer.wrap(
+                    String.join(
+                        "\n",
+                        "first: 1",
+                        "second:",
+                        "  skipped: a",
+                        "",
+                        "  # comment",
+                        "  kept:",
+                        "    - b",
+                        "third: 3"
+                    ).getBytes(StandardCharsets.UTF_8)
+                )
+            )
+        ).scan(new SelectedKeys(Arrays.asList("second.kept", "third")));
+        final Iterator<YamlLine> iterator = lines.iterator();
+        MatcherAssert.assertThat(
+            iterator.next().trimmed(), Matchers.equalTo("second:")
+        );
+        MatcherAssert.assertThat(
+            iterator.next().trimmed(), Matchers.equalTo("kept:")
+        );
+        final YamlLine nested = iterator.next();
+        MatcherAssert.assertThat(nested.trimmed(), Matchers.equalTo("- b"));
+        MatcherAssert.assertThat(nested.number(), Matchers.is(6));
+        MatcherAssert.assertThat(
+            iterator.next().trimmed(), Matchers.equalTo("third: 3")
+        );
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+    }
+}
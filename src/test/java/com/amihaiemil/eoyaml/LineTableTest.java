@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineTable}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class LineTableTest {
+
+    /**
+     * LineTable knows where the nested lines of each line end.
+     */
+    @Test
+    public void computesNestedBoundaries() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  second:", 1));
+        lines.add(new RtYamlLine("    - fourth", 2));
+        lines.add(new RtYamlLine("  fifth: value", 3));
+        lines.add(new RtYamlLine("third: something", 4));
+        lines.add(new RtYamlLine("  - sixth", 5));
+        final LineTable table = new LineTable(lines);
+        MatcherAssert.assertThat(table.size(), Matchers.is(6));
+        MatcherAssert.assertThat(table.end(0), Matchers.is(4));
+        MatcherAssert.assertThat(table.end(1), Matchers.is(3));
+        MatcherAssert.assertThat(table.end(2), Matchers.is(3));
+        MatcherAssert.assertThat(table.end(3), Matchers.is(4));
+        MatcherAssert.assertThat(table.end(4), Matchers.is(6));
+        MatcherAssert.assertThat(table.end(5), Matchers.is(6));
+    }
+
+    /**
+     * LineTable can find the position of a line by its number.
+     */
+    @Test
+    public void findsPositionOfLine() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  - fourth", 2));
+        lines.add(new RtYamlLine("  - fifth", 5));
+        lines.add(new RtYamlLine("second: something", 6));
+        final LineTable table = new LineTable(lines);
+        MatcherAssert.assertThat(table.position(5, 0, 4), Matchers.is(2));
+        MatcherAssert.assertThat(table.position(6, 0, 4), Matchers.is(3));
+        MatcherAssert.assertThat(table.position(1, 0, 4), Matchers.is(-1));
+        MatcherAssert.assertThat(table.position(0, 1, 4), Matchers.is(-1));
+        MatcherAssert.assertThat(table.position(9, 0, 4), Matchers.is(-1));
+    }
+
+    /**
+     * LineTable can find the position of a line by its number, even if
+     * the table holds only lines from far into the input.
+     */
+    @Test
+    public void findsPositionOfLineFarInInput() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 2_000_000_000));
+        lines.add(new RtYamlLine("  - second", 2_000_000_002));
+        lines.add(new RtYamlLine("third: value", 2_000_000_003));
+        final LineTable table = new LineTable(lines);
+        MatcherAssert.assertThat(
+            table.position(2_000_000_002, 0, 3), Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            table.position(2_000_000_003, 0, 3), Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            table.position(2_000_000_001, 0, 3), Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(table.position(0, 0, 3), Matchers.is(-1));
+    }
+
+    /**
+     * LineTable returns a view of the lines between two positions.
+     */
+    @Test
+    public void returnsLinesBetweenPositions() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: ", 0));
+        lines.add(new RtYamlLine("  - fourth", 1));
+        lines.add(new RtYamlLine("  - fifth", 2));
+        lines.add(new RtYamlLine("second: something", 3));
+        final List<YamlLine> range = new LineTable(lines).lines(1, 3);
+        MatcherAssert.assertThat(range, Matchers.hasSize(2));
+        MatcherAssert.assertThat(range.get(0).number(), Matchers.is(1));
+        MatcherAssert.assertThat(range.get(1).number(), Matchers.is(2));
+    }
+
+    /**
+     * LineTable remembers which lines have been verified to be
+     * well indented.
+     */
+    @Test
+    public void remembersWellIndentedLines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("---", 0));
+        lines.add(new RtYamlLine("first: value", 1));
+        lines.add(new RtYamlLine("---", 2));
+        lines.add(new RtYamlLine("second: value", 3));
+        final LineTable table = new LineTable(lines);
+        table.markWellIndented(1, 2);
+        table.markWellIndented(3, 4);
+        MatcherAssert.assertThat(table.wellIndented(1, 2), Matchers.is(true));
+        MatcherAssert.assertThat(table.wellIndented(3, 4), Matchers.is(true));
+        MatcherAssert.assertThat(table.wellIndented(2, 2), Matchers.is(true));
+        MatcherAssert.assertThat(table.wellIndented(0, 4), Matchers.is(false));
+        MatcherAssert.assertThat(table.wellIndented(1, 4), Matchers.is(false));
+    }
+
+    /**
+     * LineTable finds the bounds of the documents, leaving out the ones
+     * without content.
+     */
+    @Test
+    public void findsDocuments() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("%YAML 1.2", 0));
+        lines.add(new RtYamlLine("---", 1));
+        lines.add(new RtYamlLine("  a: 1", 2));
+        lines.add(new RtYamlLine("...", 3));
+        lines.add(new RtYamlLine("---", 4));
+        lines.add(new RtYamlLine("%YAML 1.2", 5));
+        lines.add(new RtYamlLine("---", 6));
+        lines.add(new RtYamlLine("---", 7));
+        lines.add(new RtYamlLine("- b", 8));
+        final LineTable table = new LineTable(lines);
+        MatcherAssert.assertThat(
+            table.documents(), Matchers.equalTo(new int[] {1, 3, 7, 9})
+        );
+        MatcherAssert.assertThat(
+            table.documents(), Matchers.sameInstance(table.documents())
+        );
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link MappedYamlInput}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class MappedYamlInputTest {
+
+    /**
+     * Temporary folder for the test files.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * MappedYamlInput reads the same mapping as RtYamlInput.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSameMappingAsInputStream() throws Exception {
+        final String path = "src/test/resources/indentedComplexMapping.yml";
+        MatcherAssert.assertThat(
+            new MappedYamlInput(Paths.get(path)).readYamlMapping(),
+            Matchers.equalTo(
+                new RtYamlInput(
+                    new FileInputStream(new File(path))
+                ).readYamlMapping()
+            )
+        );
+    }
+
+    /**
+     * MappedYamlInput can read a sequence.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSequence() throws Exception {
+        final YamlSequence read = new MappedYamlInput(
+            Paths.get("src/test/resources/simpleSequence.yml")
+        ).readYamlSequence();
+        MatcherAssert.assertThat(read.size(), Matchers.is(4));
+        MatcherAssert.assertThat(
+            read.string(0), Matchers.equalTo("amihaiemil")
+        );
+    }
+
+    /**
+     * MappedYamlInput can read a stream of documents.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsStream() throws Exception {
+        final YamlStream read = new MappedYamlInput(
+            Paths.get("src/test/resources/streamOfMappings.yml")
+        ).readYamlStream();
+        MatcherAssert.assertThat(read.values(), Matchers.iterableWithSize(3));
+    }
+
+    /**
+     * MappedYamlInput decodes the file as UTF-8, regardless of the
+     * platform's default charset.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void decodesUnicode() throws Exception {
+        final Path file = this.folder.newFile("utf8.yml").toPath();
+        Files.write(
+            file,
+            "city: Brașov # é\r\nseason: été\n".getBytes(
+                StandardCharsets.UTF_8
+            )
+        );
+        final YamlMapping read = new MappedYamlInput(file).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("city"), Matchers.equalTo("Brașov")
+        );
+        MatcherAssert.assertThat(
+            read.string("season"), Matchers.equalTo("été")
+        );
+    }
+
+    /**
+     * MappedYamlInput complains if the file does not exist.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IOException.class)
+    public void complainsOnMissingFile() throws Exception {
+        new MappedYamlInput(
+            this.folder.getRoot().toPath().resolve("missing.yml")
+        ).readYamlMapping();
+    }
+}
@@ -160,4 +160,31 @@ public final class ReadLiteralBlockScalarTest {
             )
         );
     }
+
+    /**
+     * ReadLiteralBlockScalar's value is read only once, in a single pass over
+     * its lines, even if there are many of them.
+     */
+    @Test
+    public void cachesValueOfManyLines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        for(int idx = 0; idx < 10000; ++idx) {
+            lines.add(new RtYamlLine("line " + idx, idx));
+            expected.add("line " + idx);
+        }
+        final ReadLiteralBlockScalar scalar =
+            new ReadLiteralBlockScalar(new AllYamlLines(lines));
+        final String value = scalar.value();
+        MatcherAssert.assertThat(
+            value,
+            Matchers.equalTo(String.join(System.lineSeparator(), expected))
+        );
+        MatcherAssert.assertThat(
+            scalar.value(), Matchers.sameInstance(value)
+        );
+        MatcherAssert.assertThat(
+            scalar.indent(0), Matchers.sameInstance(value)
+        );
+    }
 }
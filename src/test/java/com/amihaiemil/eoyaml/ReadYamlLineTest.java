@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReadYamlLine}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class ReadYamlLineTest {
+
+    /**
+     * ReadYamlLine is a slice of the given buffer.
+     */
+    @Test
+    public void readsSliceOfBuffer() {
+        final InputBuffer buffer = this.buffer(
+            "first: 1\n  second: 2 \nthird: 3"
+        );
+        final YamlLine line = new ReadYamlLine(buffer, 1, 9, 21);
+        MatcherAssert.assertThat(line.number(), Matchers.is(1));
+        MatcherAssert.assertThat(line.indentation(), Matchers.is(2));
+        MatcherAssert.assertThat(line.trimmed(), Matchers.equalTo("second: 2"));
+        MatcherAssert.assertThat(
+            line.toString(), Matchers.equalTo("  second: 2 ")
+        );
+    }
+
+    /**
+     * ReadYamlLine can be a slice of UTF-8 bytes.
+     */
+    @Test
+    public void readsSliceOfBytes() {
+        final InputBuffer buffer = this.buffer(
+            "key: \u00e9t\u00e9 # \u00e9\n"
+        );
+        final ReadYamlLine line = new ReadYamlLine(buffer, 0, 0, 15);
+        MatcherAssert.assertThat(
+            line.trimmed(), Matchers.equalTo("key: \u00e9t\u00e9")
+        );
+        MatcherAssert.assertThat(
+            line.toString(), Matchers.equalTo("key: \u00e9t\u00e9 # \u00e9")
+        );
+    }
+
+    /**
+     * ReadYamlLine ignores the comment, unless the '#' character is quoted.
+     */
+    @Test
+    public void ignoresComments() {
+        final InputBuffer buffer = this.buffer(
+            "  key: value # a comment\n"
+            + "key: \"some # value\" # comment\n"
+            + "   # only a comment"
+        );
+        final ReadYamlLine first = new ReadYamlLine(buffer, 0, 0, 24);
+        MatcherAssert.assertThat(
+            first.trimmed(), Matchers.equalTo("key: value")
+        );
+        MatcherAssert.assertThat(first.blank(), Matchers.is(false));
+        final ReadYamlLine second = new ReadYamlLine(buffer, 1, 25, 54);
+        MatcherAssert.assertThat(
+            second.trimmed(), Matchers.equalTo("key: \"some # value\"")
+        );
+        final ReadYamlLine third = new ReadYamlLine(buffer, 2, 55, 74);
+        MatcherAssert.assertThat(third.blank(), Matchers.is(true));
+        MatcherAssert.assertThat(third.trimmed(), Matchers.isEmptyString());
+    }
+
+    /**
+     * ReadYamlLine knows whether the following lines should be nested.
+     */
+    @Test
+    public void knowsIfNestedIndentationIsRequired() {
+        MatcherAssert.assertThat(
+            this.line("key: # comment").requireNestedIndentation(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            this.line("- ").requireNestedIndentation(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            this.line("literal: |").requireNestedIndentation(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            this.line("---").requireNestedIndentation(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            this.line("key: value").requireNestedIndentation(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * ReadYamlLine is compared by its trimmed contents.
+     */
+    @Test
+    public void comparesToOtherLines() {
+        final YamlLine line = this.line("  key: value #comment");
+        MatcherAssert.assertThat(
+            line.compareTo(new RtYamlLine("key: value", 3)), Matchers.is(0)
+        );
+        MatcherAssert.assertThat(line.compareTo(line), Matchers.is(0));
+        MatcherAssert.assertThat(line.compareTo(null), Matchers.is(1));
+    }
+
+    /**
+     * ReadYamlLine points to the number of its scalar value, without the
+     * key, the dash, the quotes or the comment.
+     */
+    @Test
+    public void pointsToScalarNumber() {
+        MatcherAssert.assertThat(
+            this.line("port: 8080 # http").scalarNumber().integer(),
+            Matchers.is(8080)
+        );
+        MatcherAssert.assertThat(
+            this.line("  - -12").scalarNumber().integer(),
+            Matchers.is(-12)
+        );
+        MatcherAssert.assertThat(
+            this.line("ratio: '0.5'").scalarNumber().doubleNumber(),
+            Matchers.is(0.5)
+        );
+        MatcherAssert.assertThat(
+            this.line("key:").scalarNumber(), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * ReadYamlLine knows its kind and flags, without the comment.
+     */
+    @Test
+    public void knowsKindAndFlags() {
+        final ReadYamlLine key = this.line("  key: # comment");
+        MatcherAssert.assertThat(key.kind(), Matchers.is(LineKind.KEY_ONLY));
+        MatcherAssert.assertThat(
+            key.requireNestedIndentation(), Matchers.is(true)
+        );
+        final ReadYamlLine marker = this.line("--- # start");
+        MatcherAssert.assertThat(marker.kind(), Matchers.is(LineKind.MARKER));
+        MatcherAssert.assertThat(marker.flags(), Matchers.is(LineKind.START));
+        MatcherAssert.assertThat(
+            marker.requireNestedIndentation(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Create a ReadYamlLine over the whole given String.
+     * @param contents Contents of the line.
+     * @return ReadYamlLine.
+     */
+    private ReadYamlLine line(final String contents) {
+        return new ReadYamlLine(
+            this.buffer(contents), 0, 0,
+            contents.getBytes(StandardCharsets.UTF_8).length
+        );
+    }
+
+    /**
+     * Buffer of the given text's UTF-8 bytes.
+     * @param text Text.
+     * @return InputBuffer.
+     */
+    private InputBuffer buffer(final String text) {
+        return new Utf8InputBuffer(
+            ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+}
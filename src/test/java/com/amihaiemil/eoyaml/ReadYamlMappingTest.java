@@ -929,4 +929,59 @@ public final class ReadYamlMappingTest {
         
         MatcherAssert.assertThat(map.yamlSequence(key), Matchers.nullValue());
     }
+
+    /**
+     * ReadYamlMapping matches the keys exactly, it does not
+     * confuse a key with another one which ends with the same text.
+     */
+    @Test
+    public void doesNotMatchKeySuffix() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("barfoo:", 0));
+        lines.add(new RtYamlLine("  nested: mapping", 1));
+        lines.add(new RtYamlLine("foo: bar", 2));
+        lines.add(new RtYamlLine("xfoo: scalar", 3));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        MatcherAssert.assertThat(map.yamlMapping("foo"), Matchers.nullValue());
+        MatcherAssert.assertThat(map.string("foo"), Matchers.equalTo("bar"));
+        MatcherAssert.assertThat(
+            map.yamlMapping("barfoo").string("nested"),
+            Matchers.equalTo("mapping")
+        );
+        MatcherAssert.assertThat(map.string("oo"), Matchers.nullValue());
+    }
+
+    /**
+     * ReadYamlMapping reads a nested node only once, further calls
+     * return the same instance.
+     */
+    @Test
+    public void readsNestedNodesOnlyOnce() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first:", 0));
+        lines.add(new RtYamlLine("  second:", 1));
+        lines.add(new RtYamlLine("    third: value", 2));
+        lines.add(new RtYamlLine("seq:", 3));
+        lines.add(new RtYamlLine("  - element", 4));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        final YamlMapping first = map.yamlMapping("first");
+        MatcherAssert.assertThat(
+            map.yamlMapping("first"), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            map.value(new BuiltPlainScalar("first")),
+            Matchers.sameInstance((YamlNode) first)
+        );
+        MatcherAssert.assertThat(
+            first.yamlMapping("second"),
+            Matchers.sameInstance(first.yamlMapping("second"))
+        );
+        MatcherAssert.assertThat(
+            map.yamlSequence("seq"),
+            Matchers.sameInstance(map.yamlSequence("seq"))
+        );
+        MatcherAssert.assertThat(
+            map.values(), Matchers.sameInstance(map.values())
+        );
+    }
 }
@@ -29,6 +29,9 @@ package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -165,4 +168,109 @@ public final class ReadYamlSequenceTest {
         );
         MatcherAssert.assertThat(sequence.toString(), Matchers.isEmptyString());
     }
+
+    /**
+     * ReadYamlSequence reads its elements only once, further calls
+     * return the same instances.
+     */
+    @Test
+    public void readsElementsOnlyOnce() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- ", 0));
+        lines.add(new RtYamlLine("  beta: somethingElse", 1));
+        lines.add(new RtYamlLine("- scalar", 2));
+        final YamlSequence seq = new ReadYamlSequence(
+            new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(
+            seq.yamlMapping(0), Matchers.sameInstance(seq.yamlMapping(0))
+        );
+        MatcherAssert.assertThat(
+            seq.values(), Matchers.sameInstance(seq.values())
+        );
+    }
+
+    /**
+     * ReadYamlSequence can return the elements by their index.
+     */
+    @Test
+    public void returnsElementsByIndex() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- first", 0));
+        lines.add(new RtYamlLine("-", 1));
+        lines.add(new RtYamlLine("  key: value", 2));
+        lines.add(new RtYamlLine("- third", 3));
+        final YamlSequence seq = new ReadYamlSequence(
+            new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(seq.size(), Matchers.is(3));
+        MatcherAssert.assertThat(seq.string(2), Matchers.equalTo("third"));
+        MatcherAssert.assertThat(
+            seq.yamlMapping(1).string("key"), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(seq.string(0), Matchers.equalTo("first"));
+        MatcherAssert.assertThat(seq.string(1), Matchers.nullValue());
+        MatcherAssert.assertThat(seq.yamlMapping(0), Matchers.nullValue());
+        MatcherAssert.assertThat(seq.string(3), Matchers.nullValue());
+        MatcherAssert.assertThat(seq.string(-1), Matchers.nullValue());
+    }
+
+    /**
+     * ReadYamlSequence returns the node at an index, and its typed values
+     * are parsed only once.
+     */
+    @Test
+    public void returnsValueAtIndex() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- 8080", 0));
+        lines.add(new RtYamlLine("- ", 1));
+        lines.add(new RtYamlLine("  key: value", 2));
+        final YamlSequence seq = new ReadYamlSequence(new AllYamlLines(lines));
+        final YamlNode port = seq.value(0);
+        MatcherAssert.assertThat(seq.value(0), Matchers.sameInstance(port));
+        MatcherAssert.assertThat(seq.integer(0), Matchers.is(8080));
+        MatcherAssert.assertThat(
+            ((ComparableScalar) port).parsed(Integer.class, null),
+            Matchers.is(8080)
+        );
+        MatcherAssert.assertThat(
+            seq.value(1), Matchers.instanceOf(YamlMapping.class)
+        );
+        MatcherAssert.assertThat(seq.integer(1), Matchers.is(-1));
+        MatcherAssert.assertThat(seq.value(2), Matchers.nullValue());
+    }
+
+    /**
+     * ReadYamlSequence can be shared between threads, which all get the
+     * same elements.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void sharesElementsBetweenThreads() throws Exception {
+        final List<YamlLine> lines = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            lines.add(new RtYamlLine("-", 2 * idx));
+            lines.add(new RtYamlLine("  index: " + idx, 2 * idx + 1));
+        }
+        final YamlSequence seq = new ReadYamlSequence(
+            new AllYamlLines(lines)
+        );
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<YamlMapping>> read = new ArrayList<>();
+            for(int idx = 0; idx < 8; ++idx) {
+                read.add(threads.submit(() -> seq.yamlMapping(99)));
+            }
+            for(final Future<YamlMapping> element : read) {
+                MatcherAssert.assertThat(
+                    element.get(), Matchers.sameInstance(seq.yamlMapping(99))
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(
+            seq.yamlMapping(99).string("index"), Matchers.equalTo("99")
+        );
+    }
 }
@@ -32,7 +32,13 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Unit tests for {@link ReadYamlStream}.
@@ -163,4 +169,134 @@ public final class ReadYamlStreamTest {
         );
         MatcherAssert.assertThat(stream.values(), Matchers.iterableWithSize(3));
     }
+
+    /**
+     * ReadYamlStream can be read in parallel, with the documents
+     * in their original order.
+     */
+    @Test
+    public void readsDocumentsInParallel() {
+        final List<YamlLine> lines = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            lines.add(new RtYamlLine("---", 2 * idx));
+            lines.add(new RtYamlLine("  index: " + idx, 2 * idx + 1));
+        }
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        final List<String> indexes = stream.parallel()
+            .map(doc -> ((YamlMapping) doc).string("index"))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(indexes, Matchers.hasSize(100));
+        MatcherAssert.assertThat(indexes.get(0), Matchers.equalTo("0"));
+        MatcherAssert.assertThat(indexes.get(99), Matchers.equalTo("99"));
+        MatcherAssert.assertThat(stream.isParallel(), Matchers.is(false));
+    }
+
+    /**
+     * ReadYamlStream reads its documents only once.
+     */
+    @Test
+    public void readsDocumentsOnlyOnce() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("---", 0));
+        lines.add(new RtYamlLine("  time: 12:00", 1));
+        lines.add(new RtYamlLine("---", 2));
+        lines.add(new RtYamlLine("  - 16:00", 3));
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        final YamlNode first = stream.values().iterator().next();
+        MatcherAssert.assertThat(
+            stream.values(), Matchers.sameInstance(stream.values())
+        );
+        MatcherAssert.assertThat(
+            stream.findFirst().get(), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(stream.count(), Matchers.is(2L));
+        MatcherAssert.assertThat(
+            stream.parallel().findFirst().get(), Matchers.sameInstance(first)
+        );
+    }
+
+    /**
+     * ReadYamlStream keeps the documents read by parallel() or
+     * spliterator(), so they are not read again.
+     */
+    @Test
+    public void keepsDocumentsReadInParallel() {
+        final List<YamlLine> lines = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            lines.add(new RtYamlLine("---", 2 * idx));
+            lines.add(new RtYamlLine("  index: " + idx, 2 * idx + 1));
+        }
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        final List<YamlNode> parallel = stream.parallel()
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            stream.values(), Matchers.contains(parallel.toArray())
+        );
+        final Iterator<YamlNode> values = stream.values().iterator();
+        stream.spliterator().forEachRemaining(
+            doc -> MatcherAssert.assertThat(
+                doc, Matchers.sameInstance(values.next())
+            )
+        );
+        MatcherAssert.assertThat(
+            stream.parallel().findFirst().get(),
+            Matchers.sameInstance(parallel.get(0))
+        );
+    }
+
+    /**
+     * ReadYamlStream can be shared between threads, which all see
+     * the same documents.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void sharesDocumentsBetweenThreads() throws Exception {
+        final List<YamlLine> lines = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            lines.add(new RtYamlLine("---", 2 * idx));
+            lines.add(new RtYamlLine("  index: " + idx, 2 * idx + 1));
+        }
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Collection<YamlNode>>> read = new ArrayList<>();
+            for(int idx = 0; idx < 8; ++idx) {
+                read.add(threads.submit(stream::values));
+            }
+            for(final Future<Collection<YamlNode>> values : read) {
+                MatcherAssert.assertThat(
+                    values.get(), Matchers.sameInstance(stream.values())
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    /**
+     * ReadYamlStream counts its documents without reading them.
+     */
+    @Test
+    public void countsDocumentsWithoutReadingThem() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("---", 0));
+        lines.add(new RtYamlLine("  time: 12:00", 1));
+        lines.add(new RtYamlLine("       temperature: 25C", 2));
+        lines.add(new RtYamlLine("---", 3));
+        lines.add(new RtYamlLine("...", 4));
+        lines.add(new RtYamlLine("---", 5));
+        lines.add(new RtYamlLine("  time: 16:00", 6));
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(stream.count(), Matchers.is(2L));
+    }
 }
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlEventReader}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class RtYamlEventReaderTest {
+
+    /**
+     * RtYamlEventReader reads the events of a mapping with a nested
+     * mapping and a nested sequence.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsMapping() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "# comment\n"
+                + "name: eo-yaml # the name\n"
+                + "\n"
+                + "developers:\n"
+                + "  - amihaiemil\n"
+                + "  - \"salikjan\"\n"
+                + "architect:\n"
+                + "  name: mihai\n"
+                + "  url: http://amihaiemil.com\n"
+                + "empty:\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START (line 2)",
+                "START_MAPPING (line 2)",
+                "KEY name (line 2)",
+                "SCALAR eo-yaml (line 2)",
+                "KEY developers (line 4)",
+                "START_SEQUENCE (line 5)",
+                "SCALAR amihaiemil (line 5)",
+                "SCALAR salikjan (line 6)",
+                "END_SEQUENCE (line 7)",
+                "KEY architect (line 7)",
+                "START_MAPPING (line 8)",
+                "KEY name (line 8)",
+                "SCALAR mihai (line 8)",
+                "KEY url (line 9)",
+                "SCALAR http://amihaiemil.com (line 9)",
+                "END_MAPPING (line 10)",
+                "KEY empty (line 10)",
+                "SCALAR (line 10)",
+                "END_MAPPING (line 10)",
+                "DOCUMENT_END (line 10)"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads the events of a sequence of mappings and
+     * sequences, including a sequence at the same indentation as
+     * its key.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSequence() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "- name: rultor\n"
+                + "  tags:\n"
+                + "  - bot\n"
+                + "-\n"
+                + "  - - nested\n"
+                + "- last\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START (line 1)",
+                "START_SEQUENCE (line 1)",
+                "START_MAPPING (line 1)",
+                "KEY name (line 1)",
+                "SCALAR rultor (line 1)",
+                "KEY tags (line 2)",
+                "START_SEQUENCE (line 3)",
+                "SCALAR bot (line 3)",
+                "END_SEQUENCE (line 4)",
+                "END_MAPPING (line 4)",
+                "START_SEQUENCE (line 5)",
+                "START_SEQUENCE (line 5)",
+                "SCALAR nested (line 5)",
+                "END_SEQUENCE (line 6)",
+                "END_SEQUENCE (line 6)",
+                "SCALAR last (line 6)",
+                "END_SEQUENCE (line 6)",
+                "DOCUMENT_END (line 6)"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads complex keys and block scalars.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsComplexKeysAndBlockScalars() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "?\n"
+                + "  - complex\n"
+                + ": value\n"
+                + "literal: |\n"
+                + "  line one\n"
+                + "  line two\n"
+                + "folded: >-\n"
+                + "  some\n"
+                + "  text\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START (line 1)",
+                "START_MAPPING (line 1)",
+                "KEY (line 1)",
+                "START_SEQUENCE (line 2)",
+                "SCALAR complex (line 2)",
+                "END_SEQUENCE (line 3)",
+                "SCALAR value (line 3)",
+                "KEY literal (line 4)",
+                "SCALAR line one\nline two\n (line 4)",
+                "KEY folded (line 7)",
+                "SCALAR some text (line 7)",
+                "END_MAPPING (line 9)",
+                "DOCUMENT_END (line 9)"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads the lines of block scalars as they are,
+     * without comments, and chomps their final line breaks.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsBlockScalarsRaw() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "key: | # header comment\n"
+                + "  line # x\n"
+                + "    two\n"
+                + "\n"
+                + "kept: |+\n"
+                + "  text\n"
+                + "\n"
+                + "# comment\n"
+                + "folded: >\n"
+                + "  a\n"
+                + "  b\n"
+                + "\n"
+                + "  c\n"
+                + "pipes: a|b|\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START (line 1)",
+                "START_MAPPING (line 1)",
+                "KEY key (line 1)",
+                "SCALAR line # x\n  two\n (line 1)",
+                "KEY kept (line 5)",
+                "SCALAR text\n\n (line 5)",
+                "KEY folded (line 9)",
+                "SCALAR a b\nc\n (line 9)",
+                "KEY pipes (line 14)",
+                "SCALAR a|b| (line 14)",
+                "END_MAPPING (line 14)",
+                "DOCUMENT_END (line 14)"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads a stream of documents.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsStream() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "%YAML 1.2\n"
+                + "---\n"
+                + "first: 1\n"
+                + "---\n"
+                + "- second\n"
+                + "...\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START (line 2)",
+                "START_MAPPING (line 3)",
+                "KEY first (line 3)",
+                "SCALAR 1 (line 3)",
+                "END_MAPPING (line 4)",
+                "DOCUMENT_END (line 4)",
+                "DOCUMENT_START (line 4)",
+                "START_SEQUENCE (line 5)",
+                "SCALAR second (line 5)",
+                "END_SEQUENCE (line 6)",
+                "DOCUMENT_END (line 6)"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads no events from an empty input.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsNoEventsFromEmptyInput() throws Exception {
+        MatcherAssert.assertThat(
+            this.events("# only a comment\n\n"), Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * RtYamlEventReader complains if there are no more events.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void complainsWhenThereAreNoMoreEvents() throws Exception {
+        new RtYamlEventReader(
+            new ByteArrayInputStream(new byte[0])
+        ).next();
+    }
+
+    /**
+     * RtYamlEventReader complains if a line is badly indented.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsOnBadIndentation() throws Exception {
+        this.events("first: 1\n  second: 2\n");
+    }
+
+    /**
+     * RtYamlEventReader pushes the events to a visitor.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void pushesEventsToVisitor() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        try (
+            YamlEventReader reader = new RtYamlEventReader(
+                new FileInputStream(
+                    new File("src/test/resources/simpleMapping.yml")
+                )
+            )
+        ) {
+            reader.accept(
+                new YamlEventVisitor() {
+                    @Override
+                    public void key(final String key, final int line) {
+                        keys.add(key);
+                    }
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            keys, Matchers.contains("architect", "developers", "name")
+        );
+    }
+
+    /**
+     * Read all the events of the given YAML.
+     * @param yaml YAML input.
+     * @return Events, as Strings.
+     * @throws IOException If something goes wrong.
+     */
+    private List<String> events(final String yaml) throws IOException {
+        final List<String> events = new ArrayList<>();
+        try (
+            YamlEventReader reader = new RtYamlEventReader(
+                new ByteArrayInputStream(
+                    yaml.getBytes(StandardCharsets.UTF_8)
+                )
+            )
+        ) {
+            while (reader.hasNext()) {
+                events.add(reader.next().toString());
+            }
+        }
+        return events;
+    }
+}
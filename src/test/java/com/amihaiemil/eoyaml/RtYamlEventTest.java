@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link RtYamlEvent}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class RtYamlEventTest {
+
+    /**
+     * RtYamlEvent returns its attributes.
+     */
+    @Test
+    public void returnsAttributes() {
+        final YamlEvent event = new RtYamlEvent(
+            YamlEvent.Type.KEY, "name", 3
+        );
+        MatcherAssert.assertThat(
+            event.type(), Matchers.is(YamlEvent.Type.KEY)
+        );
+        MatcherAssert.assertThat(event.value(), Matchers.equalTo("name"));
+        MatcherAssert.assertThat(event.line(), Matchers.is(3));
+        MatcherAssert.assertThat(
+            new RtYamlEvent(YamlEvent.Type.END_MAPPING, 5).value(),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * RtYamlEvent calls the right method of the visitor.
+     */
+    @Test
+    public void acceptsVisitor() {
+        final YamlEventVisitor visitor = Mockito.mock(YamlEventVisitor.class);
+        new RtYamlEvent(YamlEvent.Type.SCALAR, "value", 2).accept(visitor);
+        new RtYamlEvent(YamlEvent.Type.START_SEQUENCE, 1).accept(visitor);
+        new RtYamlEvent(YamlEvent.Type.DOCUMENT_END, 4).accept(visitor);
+        Mockito.verify(visitor).scalar("value", 2);
+        Mockito.verify(visitor).startSequence(1);
+        Mockito.verify(visitor).documentEnd(4);
+        Mockito.verifyNoMoreInteractions(visitor);
+    }
+}
@@ -28,6 +28,8 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.apache.commons.io.IOUtils;
@@ -444,4 +446,213 @@ public final class RtYamlInputTest {
         );
     }
 
+
+    /**
+     * RtYamlInput can read lines ending with any line terminator, it skips
+     * the empty and comment lines but keeps counting them.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsAnyLineTerminators() throws Exception {
+        final YamlMapping read = new RtYamlInput(
+            new ByteArrayInputStream(
+                (
+                    "# comment\r\nname: eo-yaml\r\n\r\n"
+                    + "developers:\r  - amihaiemil\n  - salikjan"
+                ).getBytes()
+            )
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("developers").string(1),
+            Matchers.equalTo("salikjan")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("developers").size(), Matchers.is(2)
+        );
+    }
+
+    /**
+     * RtYamlInput reads the input as UTF-8, whatever the platform's
+     * default charset is.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsUnicodeInput() throws Exception {
+        final YamlMapping read = new RtYamlInput(
+            new ByteArrayInputStream(
+                (
+                    "city: Bra\u0219ov # \u00e9\n"
+                    + "greetings:\n  - \u4f60\u597d\n  - \"\u00e9t\u00e9\""
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("city"), Matchers.equalTo("Bra\u0219ov")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("greetings").string(0),
+            Matchers.equalTo("\u4f60\u597d")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("greetings").string(1),
+            Matchers.equalTo("\u00e9t\u00e9")
+        );
+    }
+
+    /**
+     * RtYamlInput can read only the selected keys of a YamlMapping.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void readsSelectedKeys() throws Exception {
+        final YamlMapping read = new RtYamlInput(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "name: eo-yaml",
+                    "spec:",
+                    "  replicas: 2",
+                    "  containers:",
+                    "    -",
+                    "      image: nginx",
+                    "  labels:",
+                    "    - web",
+                    "developers:",
+                    "  - amihaiemil"
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).readYamlMapping(Arrays.asList("name", "spec.containers"));
+        MatcherAssert.assertThat(read.keys(), Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        final YamlMapping spec = read.yamlMapping("spec");
+        MatcherAssert.assertThat(spec.keys(), Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            spec.yamlSequence("containers").yamlMapping(0).string("image"),
+            Matchers.equalTo("nginx")
+        );
+    }
+
+    /**
+     * RtYamlInput does not keep the keys leading to a selected key
+     * which is missing.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void skipsPathToMissingSelectedKey() throws Exception {
+        final YamlMapping read = new RtYamlInput(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "name: eo-yaml",
+                    "spec:",
+                    "  replicas: 2",
+                    "  meta:",
+                    "    labels: web"
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).readYamlMapping(
+            Arrays.asList("name", "spec.missing", "spec.meta.missing")
+        );
+        MatcherAssert.assertThat(read.keys(), Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            read.yamlMapping("spec"), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            read.toString(), Matchers.equalTo("name: eo-yaml")
+        );
+    }
+
+    /**
+     * RtYamlInput does not keep a sequence's key when a key under it
+     * is selected, since sequence elements are not selectable.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void skipsSequenceLeadingToSelectedKey() throws Exception {
+        final YamlMapping read = new RtYamlInput(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "spec:",
+                    "  - x: 1",
+                    "  - x: 2",
+                    "other: value"
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).readYamlMapping(Arrays.asList("spec.x", "other"));
+        MatcherAssert.assertThat(read.keys(), Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            read.yamlSequence("spec"), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            read.string("other"), Matchers.equalTo("value")
+        );
+    }
+
+    /**
+     * RtYamlInput can deduplicate the read lines with a StringPool.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void poolsReadLines() throws Exception {
+        final StringPool pool = new StringPool();
+        final YamlSequence read = new RtYamlInput(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "-",
+                    "  apiVersion: v1",
+                    "  kind: Pod",
+                    "-",
+                    "  apiVersion: v1",
+                    "  kind: Service"
+                ).getBytes(StandardCharsets.UTF_8)
+            ),
+            pool
+        ).readYamlSequence();
+        MatcherAssert.assertThat(
+            read.yamlMapping(1).string("apiVersion"), Matchers.equalTo("v1")
+        );
+        MatcherAssert.assertThat(
+            read.yamlMapping(0).string("kind"), Matchers.equalTo("Pod")
+        );
+        MatcherAssert.assertThat(pool.hits(), Matchers.greaterThan(0L));
+    }
+
+    /**
+     * RtYamlInput pools the keys indexed by the read mappings.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void poolsIndexedKeys() throws Exception {
+        final StringPool pool = new StringPool();
+        final YamlSequence read = new RtYamlInput(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "-",
+                    "  name: first",
+                    "  image: nginx",
+                    "-",
+                    "  name: second",
+                    "  image: redis"
+                ).getBytes(StandardCharsets.UTF_8)
+            ),
+            pool
+        ).readYamlSequence();
+        MatcherAssert.assertThat(
+            read.yamlMapping(0).string("image"), Matchers.equalTo("nginx")
+        );
+        final YamlMapping second = read.yamlMapping(1);
+        final long hits = pool.hits();
+        MatcherAssert.assertThat(
+            second.string("image"), Matchers.equalTo("redis")
+        );
+        MatcherAssert.assertThat(pool.hits(), Matchers.greaterThan(hits));
+    }
 }
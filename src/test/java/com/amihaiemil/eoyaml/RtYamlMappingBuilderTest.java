@@ -28,7 +28,9 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -122,4 +124,37 @@ public final class RtYamlMappingBuilderTest {
             Matchers.equalTo(2)
         );
     }
+
+    /**
+     * RtYamlMappingBuilder can add many pairs at once, without changing
+     * the original builder.
+     */
+    @Test
+    public void addsAllPairs() {
+        final YamlMappingBuilder builder = new RtYamlMappingBuilder()
+            .add("architect", "amihaiemil");
+        final Map<YamlNode, YamlNode> pairs = new HashMap<>();
+        for(int idx = 0; idx < 1000; ++idx) {
+            pairs.put(
+                new BuiltPlainScalar("key" + idx),
+                new BuiltPlainScalar("value" + idx)
+            );
+        }
+        pairs.put(
+            new BuiltPlainScalar("architect"), new BuiltPlainScalar("rultor")
+        );
+        final YamlMapping all = builder.addAll(pairs).build();
+        MatcherAssert.assertThat(all.keys(), Matchers.hasSize(1001));
+        MatcherAssert.assertThat(
+            all.string("architect"), Matchers.equalTo("rultor")
+        );
+        MatcherAssert.assertThat(
+            all.string("key999"), Matchers.equalTo("value999")
+        );
+        MatcherAssert.assertThat(
+            builder.build().string("architect"),
+            Matchers.equalTo("amihaiemil")
+        );
+        MatcherAssert.assertThat(builder.build().keys(), Matchers.hasSize(1));
+    }
 }
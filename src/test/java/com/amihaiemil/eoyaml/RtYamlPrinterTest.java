@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlPrinter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class RtYamlPrinterTest {
+
+    /**
+     * RtYamlPrinter prints a YamlMapping with nested nodes and a complex
+     * key, the same as its toString().
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsMapping() throws Exception {
+        final YamlMapping mapping = Yaml.createYamlMappingBuilder()
+            .add("architect", "amihaiemil")
+            .add(
+                "developers",
+                Yaml.createYamlSequenceBuilder()
+                    .add("rultor")
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("name", "salikjan").build()
+                    ).build()
+            )
+            .add(
+                Yaml.createYamlSequenceBuilder().add("a").add("b").build(),
+                "complex"
+            )
+            .build();
+        final StringWriter out = new StringWriter();
+        new RtYamlPrinter(out).print(mapping);
+        final String newLine = System.lineSeparator();
+        MatcherAssert.assertThat(
+            out.toString(),
+            Matchers.equalTo(
+                "architect: amihaiemil" + newLine
+                + "developers: " + newLine
+                + "  - rultor" + newLine
+                + "  - " + newLine
+                + "    name: salikjan" + newLine
+                + "?" + newLine
+                + "  - a" + newLine
+                + "  - b" + newLine
+                + ": complex"
+            )
+        );
+        MatcherAssert.assertThat(
+            out.toString(), Matchers.equalTo(mapping.toString())
+        );
+    }
+
+    /**
+     * RtYamlPrinter prints a YamlStream.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsStream() throws Exception {
+        final YamlStream stream = Yaml.createYamlStreamBuilder()
+            .add(Yaml.createYamlMappingBuilder().add("a", "1").build())
+            .add(Yaml.createYamlSequenceBuilder().add("b").build())
+            .build();
+        final StringBuilder out = new StringBuilder();
+        new RtYamlPrinter(out).print(stream);
+        final String newLine = System.lineSeparator();
+        MatcherAssert.assertThat(
+            out.toString(),
+            Matchers.equalTo(
+                "---" + newLine + "  a: 1" + newLine
+                + "---" + newLine + "  - b"
+            )
+        );
+    }
+
+    /**
+     * RtYamlPrinter prints an empty YamlStream.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsEmptyStream() throws Exception {
+        final StringBuilder out = new StringBuilder();
+        new RtYamlPrinter(out).print(
+            Yaml.createYamlStreamBuilder().build(), 2
+        );
+        MatcherAssert.assertThat(
+            out.toString(),
+            Matchers.equalTo("  ---" + System.lineSeparator() + "  ...")
+        );
+    }
+
+    /**
+     * RtYamlPrinter can print deeply nested nodes.
+     */
+    @Test
+    public void printsDeepNodes() {
+        YamlNode node = Yaml.createYamlSequenceBuilder().add("leaf").build();
+        for(int idx = 0; idx < 20; ++idx) {
+            node = Yaml.createYamlMappingBuilder().add("key", node).build();
+        }
+        final String printed = RtYamlPrinter.indent(node, 0);
+        MatcherAssert.assertThat(
+            printed,
+            Matchers.endsWith(
+                System.lineSeparator()
+                + new String(new char[40]).replace('\0', ' ') + "- leaf"
+            )
+        );
+    }
+
+    /**
+     * RtYamlPrinter complains about negative indentation.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnNegativeIndentation() throws Exception {
+        new RtYamlPrinter(new StringBuilder()).print(
+            Yaml.createYamlMappingBuilder().add("a", "b").build(), -1
+        );
+    }
+}
@@ -307,4 +307,20 @@ public final class RtYamlSequenceTest {
             )
         );
     }
+
+    /**
+     * RtYamlSequence returns the node at an index.
+     */
+    @Test
+    public void returnsValueAtIndex() {
+        final List<YamlNode> values = new LinkedList<>();
+        values.add(new BuiltPlainScalar("1.5"));
+        final YamlSequence seq = new RtYamlSequence(values);
+        MatcherAssert.assertThat(
+            seq.value(0), Matchers.equalTo(new BuiltPlainScalar("1.5"))
+        );
+        MatcherAssert.assertThat(seq.floatNumber(0), Matchers.is(1.5f));
+        MatcherAssert.assertThat(seq.value(1), Matchers.nullValue());
+        MatcherAssert.assertThat(seq.value(-1), Matchers.nullValue());
+    }
 }
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SelectedKeys}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class SelectedKeysTest {
+
+    /**
+     * SelectedKeys keeps a selected key and everything under it.
+     */
+    @Test
+    public void keepsSelectedSubtree() {
+        final SelectedKeys keys = new SelectedKeys(Arrays.asList("first"));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("first:", 0)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(keys.nested(2), Matchers.is(true));
+        MatcherAssert.assertThat(keys.keepsNested(), Matchers.is(true));
+        MatcherAssert.assertThat(keys.nested(0), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("second:", 2)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(keys.nested(2), Matchers.is(true));
+        MatcherAssert.assertThat(keys.keepsNested(), Matchers.is(false));
+    }
+
+    /**
+     * SelectedKeys keeps the keys leading to a selected key, but not
+     * their other nested keys.
+     */
+    @Test
+    public void keepsPathToSelectedKey() {
+        final SelectedKeys keys = new SelectedKeys(
+            Arrays.asList("spec.replicas")
+        );
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("spec:", 0)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(keys.nested(2), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("  labels:", 1)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(keys.nested(4), Matchers.is(true));
+        MatcherAssert.assertThat(keys.keepsNested(), Matchers.is(false));
+        MatcherAssert.assertThat(keys.nested(2), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("  replicas: 2", 3)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(keys.nested(0), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("replicas: 3", 4)), Matchers.is(false)
+        );
+    }
+
+    /**
+     * SelectedKeys keeps the markers and directives, but skips the
+     * sequences and complex keys which are not under a selected key.
+     */
+    @Test
+    public void skipsSequencesAndComplexKeys() {
+        final SelectedKeys keys = new SelectedKeys(Arrays.asList("key"));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("%YAML 1.2", 0)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("---", 1)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("- key: value", 2)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("? key", 3)), Matchers.is(false)
+        );
+    }
+
+    /**
+     * SelectedKeys drops the keys leading to a selected key, if nothing
+     * selected was found under them.
+     */
+    @Test
+    public void dropsUnusedPaths() {
+        final SelectedKeys keys = new SelectedKeys(
+            Arrays.asList("first.missing", "second.kept", "third.missing")
+        );
+        final List<YamlLine> kept = new ArrayList<>();
+        final YamlLine[] lines = {
+            new RtYamlLine("first:", 0),
+            new RtYamlLine("  other: a", 1),
+            new RtYamlLine("second:", 2),
+            new RtYamlLine("  kept: b", 3),
+            new RtYamlLine("third:", 4),
+        };
+        for(final YamlLine line : lines) {
+            keys.nested(line.indentation());
+            if(keys.keeps(line)) {
+                kept.add(line);
+            }
+        }
+        keys.dropUnused(kept);
+        MatcherAssert.assertThat(kept, Matchers.contains(lines[2], lines[3]));
+    }
+
+    /**
+     * SelectedKeys matches the paths one key at a time, so a key which
+     * contains a dot is not selected by a path with the same text.
+     */
+    @Test
+    public void matchesOneKeyAtATime() {
+        final SelectedKeys keys = new SelectedKeys(Arrays.asList("a.b"));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("a.b: 1", 0)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(keys.nested(0), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("a:", 1)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(keys.nested(2), Matchers.is(false));
+        MatcherAssert.assertThat(
+            keys.keeps(new RtYamlLine("  b: 2", 2)), Matchers.is(true)
+        );
+    }
+}
@@ -172,4 +172,13 @@ public final class StrictYamlSequenceTest {
         );
     }
 
+    /**
+     * StrictYamlSequence complains if there is no node at the index.
+     */
+    @Test(expected = YamlNodeNotFoundException.class)
+    public void complainsOnMissingValue() {
+        new StrictYamlSequence(
+            new RtYamlSequence(new LinkedList<>())
+        ).value(0);
+    }
 }
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StringPool}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class StringPoolTest {
+
+    /**
+     * StringPool returns the same instance for equal Strings and counts
+     * the hits and misses.
+     */
+    @Test
+    public void internsStrings() {
+        final StringPool pool = new StringPool();
+        final String first = pool.intern(new String("apiVersion: v1"));
+        final String second = pool.intern(new String("apiVersion: v1"));
+        MatcherAssert.assertThat(second, Matchers.sameInstance(first));
+        pool.intern("kind: Pod");
+        MatcherAssert.assertThat(pool.hits(), Matchers.is(1L));
+        MatcherAssert.assertThat(pool.misses(), Matchers.is(2L));
+        MatcherAssert.assertThat(pool.size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            pool.toString(),
+            Matchers.equalTo("StringPool: 2 strings, 1 hits, 2 misses")
+        );
+    }
+
+    /**
+     * StringPool does not grow beyond its capacity.
+     */
+    @Test
+    public void isBounded() {
+        final StringPool pool = new StringPool(1);
+        pool.intern("first");
+        final String second = new String("second");
+        MatcherAssert.assertThat(
+            pool.intern(second), Matchers.sameInstance(second)
+        );
+        MatcherAssert.assertThat(
+            pool.intern(new String("second")),
+            Matchers.not(Matchers.sameInstance(second))
+        );
+        MatcherAssert.assertThat(pool.size(), Matchers.is(1));
+        MatcherAssert.assertThat(pool.misses(), Matchers.is(3L));
+    }
+
+    /**
+     * StringPool can be shared by more threads.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void canBeShared() throws Exception {
+        final StringPool pool = new StringPool();
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        for(int idx = 0; idx < 100; ++idx) {
+            threads.submit(() -> pool.intern(new String("metadata:")));
+        }
+        threads.shutdown();
+        threads.awaitTermination(10, TimeUnit.SECONDS);
+        MatcherAssert.assertThat(pool.size(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            pool.hits() + pool.misses(), Matchers.is(100L)
+        );
+    }
+}
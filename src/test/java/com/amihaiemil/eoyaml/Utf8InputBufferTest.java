@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Utf8InputBuffer}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class Utf8InputBufferTest {
+
+    /**
+     * Utf8InputBuffer returns the bytes as unsigned values, so the
+     * bytes of multi-byte characters are never mistaken for ASCII.
+     */
+    @Test
+    public void returnsUnsignedBytes() {
+        final InputBuffer buffer = new Utf8InputBuffer(
+            ByteBuffer.wrap("aé:".getBytes(StandardCharsets.UTF_8))
+        );
+        MatcherAssert.assertThat(buffer.length(), Matchers.is(4));
+        MatcherAssert.assertThat(buffer.unit(0), Matchers.is((int) 'a'));
+        MatcherAssert.assertThat(buffer.unit(1), Matchers.is(0xC3));
+        MatcherAssert.assertThat(buffer.unit(2), Matchers.is(0xA9));
+        MatcherAssert.assertThat(buffer.unit(3), Matchers.is((int) ':'));
+    }
+
+    /**
+     * Utf8InputBuffer decodes only the requested text.
+     */
+    @Test
+    public void decodesText() {
+        final ByteBuffer bytes = ByteBuffer.wrap(
+            "key: été".getBytes(StandardCharsets.UTF_8)
+        );
+        final InputBuffer buffer = new Utf8InputBuffer(bytes);
+        MatcherAssert.assertThat(
+            buffer.text(5, 10), Matchers.equalTo("été")
+        );
+        MatcherAssert.assertThat(
+            buffer.text(0, 3), Matchers.equalTo("key")
+        );
+        MatcherAssert.assertThat(bytes.position(), Matchers.is(0));
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link YamlDocuments}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class YamlDocumentsTest {
+
+    /**
+     * YamlDocuments reads the documents one by one.
+     */
+    @Test
+    public void readsDocumentsOneByOne() {
+        final YamlDocuments documents = new YamlDocuments(
+            this.input(
+                "%YAML 1.2\r\n---\r\nfirst: 1\r\nsecond: 2\r\n"
+                + "--- # second document\r\n"
+                + "- a\r\n- b\r\n"
+                + "...\r\n"
+                + "---\r\n"
+                + "---\n"
+                + "  third: 3\n"
+            )
+        );
+        final YamlMapping first = (YamlMapping) documents.next();
+        MatcherAssert.assertThat(first.string("second"), Matchers.is("2"));
+        final YamlSequence second = (YamlSequence) documents.next();
+        MatcherAssert.assertThat(second.string(1), Matchers.is("b"));
+        final YamlMapping third = (YamlMapping) documents.next();
+        MatcherAssert.assertThat(third.string("third"), Matchers.is("3"));
+        MatcherAssert.assertThat(documents.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * YamlDocuments skips the lines which are not in a document: before
+     * the first Start Marker or between an End Marker and the next
+     * Start Marker, the same as ReadYamlStream.
+     */
+    @Test
+    public void skipsLinesOutsideDocuments() {
+        final YamlDocuments documents = new YamlDocuments(
+            this.input(
+                "key: value\n---\nother: value\n...\nignored: x\n---\nlast: y"
+            )
+        );
+        MatcherAssert.assertThat(
+            ((YamlMapping) documents.next()).string("other"),
+            Matchers.is("value")
+        );
+        MatcherAssert.assertThat(
+            ((YamlMapping) documents.next()).string("last"),
+            Matchers.is("y")
+        );
+        MatcherAssert.assertThat(documents.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * YamlDocuments keeps the real numbers of the lines, so the
+     * errors point to the right line.
+     */
+    @Test
+    public void keepsLineNumbers() {
+        final YamlDocuments documents = new YamlDocuments(
+            this.input("---\na: 1\n---\nb: 2\n    c: 3\n")
+        );
+        documents.next();
+        try {
+            documents.next();
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.startsWith("Indentation of line 5 is greater")
+            );
+        }
+    }
+
+    /**
+     * YamlDocuments streams many documents, each of them keeping the
+     * real numbers of its lines.
+     */
+    @Test
+    public void streamsManyDocuments() {
+        final int count = 200_000;
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < count; ++idx) {
+            text.append("---\nindex: ").append(idx).append('\n');
+        }
+        final YamlDocuments documents = new YamlDocuments(
+            this.input(text.toString())
+        );
+        int read = 0;
+        while (documents.hasNext()) {
+            final YamlMapping doc = (YamlMapping) documents.next();
+            MatcherAssert.assertThat(doc.integer("index"), Matchers.is(read));
+            read++;
+        }
+        MatcherAssert.assertThat(read, Matchers.is(count));
+    }
+
+    /**
+     * YamlDocuments closes the input once all of it is read.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void closesInputAtTheEnd() throws Exception {
+        final InputStream input = Mockito.spy(
+            this.input("---\na: b\n---\nc: d\n")
+        );
+        final YamlDocuments documents = new YamlDocuments(input);
+        documents.next();
+        Mockito.verify(input, Mockito.never()).close();
+        documents.next();
+        MatcherAssert.assertThat(documents.hasNext(), Matchers.is(false));
+        Mockito.verify(input).close();
+    }
+
+    /**
+     * YamlDocuments complains if there are no more documents.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void complainsWhenThereAreNoMoreDocuments() {
+        new YamlDocuments(this.input("# only a comment")).next();
+    }
+
+    /**
+     * YamlDocuments wraps the IOException of the input.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = java.io.UncheckedIOException.class)
+    public void wrapsIoException() throws Exception {
+        final InputStream input = Mockito.mock(InputStream.class);
+        Mockito.when(input.read(Mockito.any(byte[].class)))
+            .thenThrow(new IOException("broken"));
+        new YamlDocuments(input).hasNext();
+    }
+
+    /**
+     * UTF-8 input of the given text.
+     * @param text Text.
+     * @return InputStream.
+     */
+    private InputStream input(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
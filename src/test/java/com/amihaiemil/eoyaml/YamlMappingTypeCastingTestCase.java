@@ -29,6 +29,8 @@ package com.amihaiemil.eoyaml;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -137,4 +139,49 @@ public final class YamlMappingTypeCastingTestCase {
             .build();
         return mapping;
     }
+
+    /**
+     * A read YamlMapping reads a scalar value only once and caches its
+     * parsed value.
+     */
+    @Test
+    public void cachesParsedValues() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("threads: 16", 0));
+        lines.add(new RtYamlLine("ratio: 0.75", 1));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        final YamlNode threads = map.value(new BuiltPlainScalar("threads"));
+        MatcherAssert.assertThat(
+            map.value(new BuiltPlainScalar("threads")),
+            Matchers.sameInstance(threads)
+        );
+        MatcherAssert.assertThat(map.integer("threads"), Matchers.is(16));
+        MatcherAssert.assertThat(
+            ((ComparableScalar) threads).parsed(Integer.class, null),
+            Matchers.is(16)
+        );
+        MatcherAssert.assertThat(map.doubleNumber("ratio"), Matchers.is(0.75));
+        MatcherAssert.assertThat(map.integer("missing"), Matchers.is(-1));
+    }
+
+    /**
+     * The numbers of a read YamlMapping are parsed straight from the input.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void parsesNumbersFromInput() throws Exception {
+        final YamlMapping map = Yaml.createYamlInput(
+            "threads: 16\nsize: \"4294967296\"\nratio: 1.5e-3 # small\n"
+            + "name: eo\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(map.integer("threads"), Matchers.is(16));
+        MatcherAssert.assertThat(
+            map.longNumber("size"), Matchers.is(4294967296L)
+        );
+        MatcherAssert.assertThat(
+            map.doubleNumber("ratio"), Matchers.is(1.5e-3)
+        );
+        MatcherAssert.assertThat(map.string("threads"), Matchers.is("16"));
+        MatcherAssert.assertThat(map.longNumber("missing"), Matchers.is(-1L));
+    }
 }
@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link YamlPath}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 3.1.4
+ */
+public final class YamlPathTest {
+
+    /**
+     * YAML used by the tests.
+     */
+    private static final String YAML = String.join(
+        "\n",
+        "apiVersion: v1",
+        "spec:",
+        "  replicas: 2",
+        "  labels:",
+        "    - web",
+        "    - front",
+        "  containers:",
+        "    -",
+        "      name: proxy",
+        "      image: nginx",
+        "    -",
+        "      name: app",
+        "      image: eo-yaml:latest",
+        "      ports:",
+        "        - 8080",
+        "kind: Deployment"
+    );
+
+    /**
+     * YamlPath can find a scalar in a read YamlMapping.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsScalarInReadMapping() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(YAML).readYamlMapping();
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[1].image").string(read),
+            Matchers.equalTo("eo-yaml:latest")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[0].name").string(read),
+            Matchers.equalTo("proxy")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.labels[1]").string(read),
+            Matchers.equalTo("front")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("kind").string(read),
+            Matchers.equalTo("Deployment")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[1].ports[0]").string(read),
+            Matchers.equalTo("8080")
+        );
+    }
+
+    /**
+     * YamlPath can find collections in a read YamlMapping.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsCollectionsInReadMapping() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(YAML).readYamlMapping();
+        final YamlMapping container = YamlPath.compile("spec.containers[0]")
+            .yamlMapping(read);
+        MatcherAssert.assertThat(
+            container.string("image"), Matchers.equalTo("nginx")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.labels").yamlSequence(read),
+            Matchers.equalTo(read.yamlMapping("spec").yamlSequence("labels"))
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec").yamlMapping(read),
+            Matchers.equalTo(read.yamlMapping("spec"))
+        );
+    }
+
+    /**
+     * YamlPath can find a node starting from a read YamlSequence.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsNodeInReadSequence() throws IOException {
+        final YamlSequence read = Yaml.createYamlInput(
+            "- first\n-\n  key: value\n-\n  - nested\n"
+        ).readYamlSequence();
+        MatcherAssert.assertThat(
+            YamlPath.compile("[1].key").string(read),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("[2][0]").string(read),
+            Matchers.equalTo("nested")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("[0]").string(read),
+            Matchers.equalTo("first")
+        );
+    }
+
+    /**
+     * YamlPath returns null if there is nothing at the given path.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void returnsNullIfMissing() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(YAML).readYamlMapping();
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[2].image").node(read),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.missing").node(read),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("kind.name").node(read),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec[0]").node(read),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.labels.web").node(read),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec").string(read),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * YamlPath reads the keys the same way as the read YamlMapping:
+     * if a key appears more than once, the last occurrence wins and
+     * a key may start with '-'.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsKeysAsMapping() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            String.join(
+                "\n",
+                "a: first",
+                "-k: dash",
+                "nested:",
+                "  b: first",
+                "  -k:",
+                "    c: value",
+                "  b: last",
+                "a: last"
+            )
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            YamlPath.compile("a").string(read),
+            Matchers.allOf(
+                Matchers.equalTo("last"), Matchers.equalTo(read.string("a"))
+            )
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("-k").string(read),
+            Matchers.allOf(
+                Matchers.notNullValue(), Matchers.equalTo(read.string("-k"))
+            )
+        );
+        final YamlMapping nested = read.yamlMapping("nested");
+        MatcherAssert.assertThat(
+            YamlPath.compile("nested.b").string(read),
+            Matchers.allOf(
+                Matchers.equalTo("last"), Matchers.equalTo(nested.string("b"))
+            )
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("nested.-k.c").string(read),
+            Matchers.allOf(
+                Matchers.equalTo("value"),
+                Matchers.equalTo(nested.yamlMapping("-k").string("c"))
+            )
+        );
+    }
+
+    /**
+     * YamlPath works with built YAML too.
+     */
+    @Test
+    public void findsNodeInBuiltYaml() {
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add(
+                "spec",
+                Yaml.createYamlMappingBuilder().add(
+                    "containers",
+                    Yaml.createYamlSequenceBuilder()
+                        .add("first")
+                        .add(
+                            Yaml.createYamlMappingBuilder()
+                                .add("image", "nginx")
+                                .build()
+                        ).build()
+                ).build()
+            ).build();
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[1].image").string(built),
+            Matchers.equalTo("nginx")
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec.containers[2]").node(built),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            YamlPath.compile("spec[0]").node(built),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * A compiled YamlPath can be evaluated many times and it returns
+     * the path as it was given.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void canBeReused() throws IOException {
+        final YamlPath path = YamlPath.compile("spec.replicas");
+        MatcherAssert.assertThat(
+            path.toString(), Matchers.equalTo("spec.replicas")
+        );
+        for(int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                path.string(Yaml.createYamlInput(YAML).readYamlMapping()),
+                Matchers.equalTo("2")
+            );
+        }
+    }
+
+    /**
+     * YamlPath complains if the index is not a number.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnBadIndex() {
+        YamlPath.compile("spec.containers[first]");
+    }
+
+    /**
+     * YamlPath complains if a bracket is not closed.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnUnclosedBracket() {
+        YamlPath.compile("spec.containers[0");
+    }
+
+    /**
+     * YamlPath complains if a key is missing.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnMissingKey() {
+        YamlPath.compile("spec..image");
+    }
+
+    /**
+     * YamlPath complains if a step is not followed by a separator.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnMissingSeparator() {
+        YamlPath.compile("a[0]b");
+    }
+
+    /**
+     * YamlPath complains if the path ends with a dot.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnTrailingDot() {
+        YamlPath.compile("spec.");
+    }
+
+    /**
+     * YamlPath complains if a dot is followed by an index, instead of
+     * a key.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnDotBeforeIndex() {
+        YamlPath.compile("spec.[0]");
+    }
+
+    /**
+     * YamlPath complains if the path is empty.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnEmptyPath() {
+        YamlPath.compile("");
+    }
+}
@@ -28,7 +28,10 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -86,6 +89,20 @@ public final class YamlTest {
         );
     }
 
+    /**
+     * Yaml can create a YamlInput from a Path.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void createsYamlInputFromPath() throws Exception {
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(
+                Paths.get("src/test/resources/simpleMapping.yml")
+            ).readYamlMapping().string("name"),
+            Matchers.equalTo("eo-yaml")
+        );
+    }
+
     /**
      * Yaml can create a YamlInput from an InputStream.
      */
@@ -108,4 +125,49 @@ public final class YamlTest {
             Yaml.createYamlInput("yaml: test"), Matchers.notNullValue()
         );
     }
+
+    /**
+     * Yaml can create a YamlInput which pools the read Strings.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void createsPooledYamlInput() throws Exception {
+        final StringPool pool = new StringPool();
+        final YamlMapping read = Yaml.createYamlInput(
+            new ByteArrayInputStream("yaml: test".getBytes()), pool
+        ).readYamlMapping();
+        MatcherAssert.assertThat(read.string("yaml"), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(pool.size(), Matchers.greaterThan(0));
+    }
+
+    /**
+     * Yaml can create a YamlEventReader from an InputStream.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void createsYamlEventReader() throws Exception {
+        final YamlEventReader reader = Yaml.createYamlEventReader(
+            new ByteArrayInputStream("yaml: test".getBytes())
+        );
+        MatcherAssert.assertThat(
+            reader.next().type(), Matchers.is(YamlEvent.Type.DOCUMENT_START)
+        );
+        reader.close();
+    }
+
+    /**
+     * Yaml can create a YamlPrinter which writes to an OutputStream.
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void createsYamlPrinter() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Yaml.createYamlPrinter(out).print(
+            Yaml.createYamlMappingBuilder().add("yaml", "t\u00e9st").build()
+        );
+        MatcherAssert.assertThat(
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("yaml: t\u00e9st")
+        );
+    }
 }